@@ -0,0 +1,97 @@
+// 플랫폼 스레드 / 가상 스레드 모드 비교용 k6 부하 테스트
+// 매 요청 DB를 읽는 조회(주문 내역 한 페이지, 장바구니)를 동시 사용자 VUS명이 반복 호출
+// 조리 현황판(/api/orders/cooking)은 메모리 보드에서 응답하므로 넣지 않음
+//
+//   CART_STORE_MODE=database 로 서버를 띄운 뒤 (다른 모드는 장바구니를 메모리에서 응답)
+//   k6 run -e BASE_URL=http://localhost:8080 -e VUS=2000 loadtest/db-bound-requests.js
+//
+// 같은 DB/커넥션 풀 설정에서 VIRTUAL_THREADS_ENABLED=false/true로 한 번씩 실행하여
+// http_reqs(처리량)와 http_req_duration의 p(95)/p(99)를 비교
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const VUS = parseInt(__ENV.VUS || '2000', 10);
+const DURATION = __ENV.DURATION || '2m';
+// 조회 결과가 비지 않도록 미리 만들어 두는 주문 수 / 장바구니 아이템 수
+const SEED_ORDERS = parseInt(__ENV.SEED_ORDERS || '20', 10);
+const SEED_CART_ITEMS = parseInt(__ENV.SEED_CART_ITEMS || '3', 10);
+
+export const options = {
+    scenarios: {
+        steady: {
+            executor: 'constant-vus',
+            vus: VUS,
+            duration: DURATION,
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+const JSON_HEADERS = { 'Content-Type': 'application/json' };
+
+const CART_ITEM = JSON.stringify({
+    menuId: 1,
+    menuName: '발렌타인 디너',
+    menuPrice: 50000,
+    menuQuantity: 1,
+    styleId: 1,
+    styleName: '심플',
+    styleExtraPrice: 0,
+    options: [
+        { optionId: 1, optionName: '스테이크', optionPrice: 5000, defaultQty: 1, quantity: 1 },
+        { optionId: 2, optionName: '와인', optionPrice: 5000, defaultQty: 1, quantity: 1 },
+    ],
+});
+
+function login(loginId, password) {
+    const res = http.post(`${BASE_URL}/api/auth/login`, JSON.stringify({ loginId, password }), { headers: JSON_HEADERS });
+    check(res, { 'login 200': (r) => r.status === 200 });
+    return res.json();
+}
+
+export function setup() {
+    const loginId = `loadtest${Date.now()}`;
+    http.post(`${BASE_URL}/api/auth/customer/signup`, JSON.stringify({
+        loginId,
+        password: 'loadtest123',
+        name: '부하테스트',
+        phoneNumber: '010-0000-0000',
+        address: '서울시 부하구',
+    }), { headers: JSON_HEADERS });
+
+    const customer = login(loginId, 'loadtest123');
+    const headers = { 'Content-Type': 'application/json', Authorization: `Bearer ${customer.token}` };
+
+    // 주문 내역: 장바구니에 담고 주문하기를 반복
+    for (let i = 0; i < SEED_ORDERS; i++) {
+        http.post(`${BASE_URL}/api/cart/${customer.userId}/items`, CART_ITEM, { headers });
+        const ordered = http.post(`${BASE_URL}/api/orders`, JSON.stringify({
+            customerId: customer.userId,
+            address: '서울시 부하구',
+            cardNumber: '1234-5678-9012-3456',
+            deliveryTime: '18:00',
+        }), { headers });
+        check(ordered, { 'seed order 201/202': (r) => r.status === 201 || r.status === 202 });
+    }
+
+    // 장바구니: 주문하지 않고 남겨 둠
+    for (let i = 0; i < SEED_CART_ITEMS; i++) {
+        const added = http.post(`${BASE_URL}/api/cart/${customer.userId}/items`, CART_ITEM, { headers });
+        check(added, { 'seed cart 2xx': (r) => r.status >= 200 && r.status < 300 });
+    }
+
+    return { customerId: customer.userId, customerToken: customer.token };
+}
+
+export default function (data) {
+    const customer = { headers: { Authorization: `Bearer ${data.customerToken}` } };
+
+    const responses = http.batch([
+        ['GET', `${BASE_URL}/api/orders/customer/${data.customerId}?size=20`, null,
+            Object.assign({ tags: { name: 'GET /api/orders/customer/{id}' } }, customer)],
+        ['GET', `${BASE_URL}/api/cart/${data.customerId}`, null,
+            Object.assign({ tags: { name: 'GET /api/cart/{id}' } }, customer)],
+    ]);
+    responses.forEach((res) => check(res, { 'status 2xx': (r) => r.status >= 200 && r.status < 300 }));
+}
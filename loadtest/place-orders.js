@@ -0,0 +1,81 @@
+// 주문 생성(POST /api/orders) 지연 측정용 k6 부하 테스트
+// VU마다 고객 한 명이 장바구니에 디너 1개(옵션 2개)를 담고 주문하는 과정을 반복
+//
+//   k6 run -e BASE_URL=http://localhost:8080 -e VUS=50 loadtest/place-orders.js
+//
+// 변경 전/후 빌드를 같은 DB/설정에서 한 번씩 실행하여
+// http_req_duration{name:POST /api/orders}의 p(95)/p(99)와 http_reqs를 비교
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const VUS = parseInt(__ENV.VUS || '50', 10);
+const DURATION = __ENV.DURATION || '2m';
+
+export const options = {
+    scenarios: {
+        steady: {
+            executor: 'constant-vus',
+            vus: VUS,
+            duration: DURATION,
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+    // 요약에 주문 생성 요청만의 지연이 따로 나오도록 태그별 기준을 둠 (기준값 자체는 판정용이 아님)
+    thresholds: {
+        'http_req_duration{name:POST /api/orders}': ['max>=0'],
+    },
+};
+
+const JSON_HEADERS = { 'Content-Type': 'application/json' };
+
+const CART_ITEM = JSON.stringify({
+    menuId: 1,
+    menuName: '발렌타인 디너',
+    menuPrice: 50000,
+    menuQuantity: 1,
+    styleId: 1,
+    styleName: '심플',
+    styleExtraPrice: 0,
+    options: [
+        { optionId: 1, optionName: '스테이크', optionPrice: 5000, defaultQty: 1, quantity: 1 },
+        { optionId: 2, optionName: '와인', optionPrice: 5000, defaultQty: 1, quantity: 1 },
+    ],
+});
+
+export function setup() {
+    const customers = [];
+    const prefix = `orderload${Date.now()}`;
+    for (let i = 0; i < VUS; i++) {
+        const loginId = `${prefix}_${i}`;
+        http.post(`${BASE_URL}/api/auth/customer/signup`, JSON.stringify({
+            loginId,
+            password: 'loadtest123',
+            name: '부하테스트',
+            phoneNumber: '010-0000-0000',
+            address: '서울시 부하구',
+        }), { headers: JSON_HEADERS });
+        const res = http.post(`${BASE_URL}/api/auth/login`,
+            JSON.stringify({ loginId, password: 'loadtest123' }), { headers: JSON_HEADERS });
+        check(res, { 'login 200': (r) => r.status === 200 });
+        customers.push({ id: res.json().userId, token: res.json().token });
+    }
+    return { customers };
+}
+
+export default function (data) {
+    const customer = data.customers[(__VU - 1) % data.customers.length];
+    const headers = { 'Content-Type': 'application/json', Authorization: `Bearer ${customer.token}` };
+
+    const added = http.post(`${BASE_URL}/api/cart/${customer.id}/items`, CART_ITEM,
+        { headers, tags: { name: 'POST /api/cart/{id}/items' } });
+    check(added, { 'cart 2xx': (r) => r.status >= 200 && r.status < 300 });
+
+    const ordered = http.post(`${BASE_URL}/api/orders`, JSON.stringify({
+        customerId: customer.id,
+        address: '서울시 부하구',
+        cardNumber: '1234-5678-9012-3456',
+        deliveryTime: '18:00',
+    }), { headers, tags: { name: 'POST /api/orders' } });
+    check(ordered, { 'order 201/202': (r) => r.status === 201 || r.status === 202 });
+}
@@ -0,0 +1,71 @@
+package com.dinnervery.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증 필터의 요청당 JWT 처리 비용
+ * - legacyThreeParses: 변경 전 (validateToken + getUserIdFromToken + getRoleFromToken, 매번 파서 생성/서명 검증)
+ * - parseTokenUncached: parseToken 1회 (캐시 최대 크기 0, 서명 검증 1회)
+ * - parseTokenCached: parseToken 1회 (캐시 적중)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtProviderBenchmark {
+
+    private static final String SECRET = "dinnervery-secret-key-for-jwt-token-generation-minimum-256-bits-long";
+
+    private SecretKey secretKey;
+    private JwtProvider uncachedProvider;
+    private JwtProvider cachedProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        secretKey = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        uncachedProvider = new JwtProvider(SECRET, 86_400_000L, 0, new SimpleMeterRegistry());
+        cachedProvider = new JwtProvider(SECRET, 86_400_000L, 10_000, new SimpleMeterRegistry());
+        token = cachedProvider.generateToken(1L, "customer1", "CUSTOMER");
+        cachedProvider.parseToken(token);
+    }
+
+    @Benchmark
+    public void legacyThreeParses(Blackhole blackhole) {
+        blackhole.consume(legacyClaims(token));
+        blackhole.consume(Long.parseLong(legacyClaims(token).getSubject()));
+        blackhole.consume(legacyClaims(token).get("role", String.class));
+    }
+
+    @Benchmark
+    public Object parseTokenUncached() {
+        return uncachedProvider.parseToken(token);
+    }
+
+    @Benchmark
+    public Object parseTokenCached() {
+        return cachedProvider.parseToken(token);
+    }
+
+    private Claims legacyClaims(String token) {
+        return Jwts.parser()
+                .verifyWith(secretKey)
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+}
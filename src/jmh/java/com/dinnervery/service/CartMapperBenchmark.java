@@ -0,0 +1,119 @@
+package com.dinnervery.service;
+
+import com.dinnervery.entity.CartItem;
+import com.dinnervery.entity.CartItemOption;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 장바구니 조회 응답 생성 + JSON 직렬화 비용
+ * - legacyMapTree: 변경 전 (항목마다 HashMap 중첩, stream/collect)
+ * - cartMapper: CartMapper.toCartResponse (@Value DTO, 미리 크기를 잡은 리스트)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CartMapperBenchmark {
+
+    @Param({"1", "10"})
+    private int itemCount;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private Map<Long, CartItem> cartItems;
+
+    @Setup
+    public void setUp() {
+        cartItems = new LinkedHashMap<>();
+        for (long id = 1; id <= itemCount; id++) {
+            CartItem cartItem = CartItem.builder()
+                    .menuId(1L)
+                    .menuName("발렌타인 디너")
+                    .menuPrice(50000)
+                    .styleId(2L)
+                    .styleName("그랜드")
+                    .styleExtraPrice(5000)
+                    .quantity(2)
+                    .build();
+            for (String optionName : List.of("스테이크", "와인", "바게트빵")) {
+                cartItem.addCartItemOption(CartItemOption.builder()
+                        .optionId(id)
+                        .optionName(optionName)
+                        .optionPrice(5000)
+                        .defaultQty(1)
+                        .quantity(2)
+                        .build());
+            }
+            cartItems.put(id, cartItem);
+        }
+    }
+
+    @Benchmark
+    public String legacyMapTree() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(legacyCartResponse(1L, 1L, cartItems));
+    }
+
+    @Benchmark
+    public String cartMapper() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(CartMapper.toCartResponse(1L, 1L, cartItems));
+    }
+
+    private static Map<String, Object> legacyCartResponse(Long cartId, Long customerId, Map<Long, CartItem> cartItems) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("cartId", cartId);
+        response.put("customerId", customerId);
+
+        List<Map<String, Object>> cartItemsList = cartItems.entrySet().stream()
+                .map(entry -> {
+                    CartItem item = entry.getValue();
+                    Map<String, Object> itemMap = new HashMap<>();
+                    itemMap.put("cartItemId", entry.getKey());
+
+                    Map<String, Object> dinnerItem = new HashMap<>();
+                    dinnerItem.put("menuId", item.getMenuId());
+                    dinnerItem.put("name", item.getMenuName());
+                    dinnerItem.put("quantity", item.getQuantity());
+                    dinnerItem.put("unitPrice", item.getMenuPrice());
+                    itemMap.put("dinnerItem", dinnerItem);
+
+                    Map<String, Object> style = new HashMap<>();
+                    style.put("styleId", item.getStyleId());
+                    style.put("name", item.getStyleName());
+                    style.put("extraPrice", item.getStyleExtraPrice());
+                    itemMap.put("style", style);
+
+                    List<Map<String, Object>> options = item.getCartItemOptions().stream()
+                            .map(o -> {
+                                Map<String, Object> m = new HashMap<>();
+                                m.put("optionId", o.getOptionId());
+                                m.put("name", o.getOptionName());
+                                m.put("quantity", o.getQuantity());
+                                m.put("defaultQty", o.getDefaultQty());
+                                m.put("unitPrice", o.getOptionPrice());
+                                m.put("extraPrice", o.calculateExtraCost());
+                                return m;
+                            }).collect(Collectors.toList());
+                    itemMap.put("options", options);
+
+                    return itemMap;
+                })
+                .collect(Collectors.toList());
+        response.put("cartItems", cartItemsList);
+        response.put("totalAmount", cartItems.values().stream().mapToInt(CartItem::getItemTotalPrice).sum());
+        return response;
+    }
+}
@@ -0,0 +1,20 @@
+package com.dinnervery.common;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+
+/**
+ * 장바구니 아이템/옵션용 기본 엔티티 (일괄 추가 시 INSERT를 JDBC 배치로 묶음)
+ * 주문 애그리거트와 ID 공간을 나누기 위해 PooledIdEntity와 별도의 cart_aggregate_seq를 사용
+ */
+@MappedSuperclass
+@Getter
+public abstract class CartPooledIdEntity extends BaseTimeEntity {
+
+    // 시작 값의 의미는 PooledIdEntity.LEGACY_ID_CEILING 참고 (cart_items/cart_item_options의 MAX(id) 기준)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "cart_aggregate_seq")
+    @SequenceGenerator(name = "cart_aggregate_seq", sequenceName = "cart_aggregate_seq",
+            initialValue = PooledIdEntity.LEGACY_ID_CEILING, allocationSize = 50)
+    private Long id;
+}
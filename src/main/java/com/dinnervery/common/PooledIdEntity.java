@@ -0,0 +1,28 @@
+package com.dinnervery.common;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+
+/**
+ * 주문 애그리거트(주문/주문 아이템/주문 옵션)용 기본 엔티티
+ * IDENTITY 대신 pooled 시퀀스로 ID를 미리 할당받아 INSERT를 JDBC 배치로 묶을 수 있음
+ * MySQL에는 시퀀스가 없으므로 Hibernate가 order_aggregate_seq 테이블로 대신 관리함
+ */
+@MappedSuperclass
+@Getter
+public abstract class PooledIdEntity extends BaseTimeEntity {
+
+    /**
+     * 시퀀스 시작 값 (ddl-auto가 시퀀스 테이블을 처음 만들 때만 쓰이고 이후에는 테이블의 next_val을 따름)
+     * pooled 시퀀스 전에는 테이블마다 AUTO_INCREMENT로 ID를 발급했으므로, 이미 있는 행과 겹치지 않게 그보다 큰 값에서 시작
+     * 전환 시점에 orders/order_items/order_item_options의 MAX(id)가 이 값 이상이면
+     * 배포 전에 order_aggregate_seq.next_val을 MAX(id) + 1 이상으로 올려야 함 (CartPooledIdEntity의 cart_aggregate_seq도 같음)
+     */
+    static final int LEGACY_ID_CEILING = 1_000_000;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_aggregate_seq")
+    @SequenceGenerator(name = "order_aggregate_seq", sequenceName = "order_aggregate_seq",
+            initialValue = LEGACY_ID_CEILING, allocationSize = 50)
+    private Long id;
+}
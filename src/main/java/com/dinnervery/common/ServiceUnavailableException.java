@@ -0,0 +1,11 @@
+package com.dinnervery.common;
+
+/**
+ * 외부 서비스가 응답하지 않거나 차단(서킷 오픈)되어 요청을 처리할 수 없을 때 (503)
+ */
+public class ServiceUnavailableException extends RuntimeException {
+
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+}
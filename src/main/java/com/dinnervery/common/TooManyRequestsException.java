@@ -0,0 +1,11 @@
+package com.dinnervery.common;
+
+/**
+ * 처리 대기열이 가득 차 요청을 받을 수 없을 때 (429)
+ */
+public class TooManyRequestsException extends RuntimeException {
+
+    public TooManyRequestsException(String message) {
+        super(message);
+    }
+}
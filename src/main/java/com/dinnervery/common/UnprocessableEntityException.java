@@ -0,0 +1,12 @@
+package com.dinnervery.common;
+
+/**
+ * 요청 형식은 올바르지만 이미 처리된 요청과 맞지 않아 처리할 수 없을 때 (422)
+ * 예: 같은 Idempotency-Key로 내용이 다른 주문을 보낸 경우
+ */
+public class UnprocessableEntityException extends RuntimeException {
+
+    public UnprocessableEntityException(String message) {
+        super(message);
+    }
+}
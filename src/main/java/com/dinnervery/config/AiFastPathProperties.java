@@ -0,0 +1,76 @@
+package com.dinnervery.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * AI 주문 빠른 경로(규칙 기반 해석) 설정 (ai.fast-path)
+ * 메뉴/스타일 카탈로그와 빠른 경로를 포기하고 AI 서비스로 넘길 단어 목록
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "ai.fast-path")
+public class AiFastPathProperties {
+
+    private boolean enabled = false;
+
+    /**
+     * 발화 중 인식된 단어가 차지하는 비율이 이 값 이상일 때만 빠른 경로로 응답
+     */
+    private double minConfidence = 0.8;
+
+    /**
+     * 빠른 경로 응답의 state (AI 서비스의 주문 완료 상태와 같아야 함)
+     */
+    private String state = "COMPLETE";
+
+    private List<Entry> menus = new ArrayList<>();
+    private List<Entry> styles = new ArrayList<>();
+
+    /**
+     * 옵션 이름 (옵션을 언급하면 AI 서비스로 넘김)
+     */
+    private List<String> optionWords = new ArrayList<>();
+
+    /**
+     * 변경/제외 등 규칙으로 해석하지 않는 표현 (포함되면 AI 서비스로 넘김)
+     */
+    private List<String> fallbackWords = new ArrayList<>();
+
+    /**
+     * 의미 없이 인식만 되는 표현 (주세요, 으로 등)
+     */
+    private List<String> fillerWords = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Entry {
+        private Long id;
+        private String name;
+        private List<String> aliases = new ArrayList<>();
+
+        /**
+         * 메뉴에서 선택 가능한 스타일 ID (비어 있으면 모든 스타일)
+         */
+        private List<Long> styleIds = new ArrayList<>();
+
+        /**
+         * 메뉴 기본 구성 옵션 (빠른 경로 응답의 orderSummary.options, AI 서비스가 같은 메뉴에 돌려주는 옵션과 같게 설정)
+         */
+        private List<DefaultOption> defaultOptions = new ArrayList<>();
+    }
+
+    @Getter
+    @Setter
+    public static class DefaultOption {
+        private Long id;
+        private String name;
+        private Integer quantity = 1;
+    }
+}
@@ -1,14 +1,24 @@
 package com.dinnervery.config;
 
+import com.dinnervery.repository.CartRepository;
+import com.dinnervery.repository.DataMigrationRepository;
+import com.dinnervery.repository.OptionRecipeRepository;
 import com.dinnervery.repository.StorageRepository;
 import com.dinnervery.repository.StaffRepository;
+import com.dinnervery.entity.DataMigration;
+import com.dinnervery.entity.OptionRecipe;
 import com.dinnervery.entity.Storage;
 import com.dinnervery.entity.Staff;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
 
 @Component
 @RequiredArgsConstructor
@@ -17,16 +27,41 @@ public class DataLoader implements CommandLineRunner {
 
     private final StorageRepository storageRepository;
     private final StaffRepository staffRepository;
+    private final OptionRecipeRepository optionRecipeRepository;
+    private final CartRepository cartRepository;
+    private final DataMigrationRepository dataMigrationRepository;
     private final PasswordEncoder passwordEncoder;
+    private final PlatformTransactionManager transactionManager;
 
     @Override
     public void run(String... args) throws Exception {
         createStorages();
+        createOptionRecipes();
         createStaff();
-        
+        // 이전 버전은 옵션 수량 변경 시 장바구니 총액을 갱신하지 않았음
+        runOnce("cart-total-recalculation", cartRepository::recalculateTotalAmounts);
+
         System.out.println("초기 데이터 로딩이 완료되었습니다.");
     }
 
+    /**
+     * 기록이 없을 때만 보정 작업을 실행하고 같은 트랜잭션에서 실행 기록을 남김
+     * 여러 인스턴스가 동시에 기동하면 기록 저장이 충돌한 쪽은 롤백 (다른 인스턴스가 이미 실행함)
+     */
+    private void runOnce(String name, Runnable migration) {
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                if (dataMigrationRepository.existsById(name)) {
+                    return;
+                }
+                migration.run();
+                dataMigrationRepository.saveAndFlush(DataMigration.builder().name(name).build());
+            });
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 먼저 실행을 기록함
+        }
+    }
+
     private void createStorages() {
         if (storageRepository.count() == 0) {
             Storage meat = Storage.builder().name("고기").quantity(100).build();
@@ -46,6 +81,31 @@ public class DataLoader implements CommandLineRunner {
         }
     }
 
+    private void createOptionRecipes() {
+        if (optionRecipeRepository.count() == 0) {
+            // 옵션 ID는 프론트엔드 메뉴 정의를 따르므로 기본 데이터는 옵션 이름으로 매핑
+            optionRecipeRepository.saveAll(List.of(
+                    recipe("에그 스크램블", "계란", 1),
+                    recipe("바게트빵", "바게트빵", 1),
+                    recipe("베이컨", "고기", 1),
+                    recipe("샴페인", "샴페인", 1),
+                    recipe("스테이크", "고기", 1),
+                    recipe("와인", "와인", 1),
+                    recipe("샐러드", "채소", 1),
+                    recipe("커피", "커피", 1),
+                    recipe("커피포트", "커피", 5)
+            ));
+        }
+    }
+
+    private OptionRecipe recipe(String optionName, String storageName, int units) {
+        return OptionRecipe.builder()
+                .optionName(optionName)
+                .storageName(storageName)
+                .units(units)
+                .build();
+    }
+
     private void createStaff() {
         if (staffRepository.count() == 0) {
             Staff cook = Staff.builder()
@@ -1,6 +1,7 @@
 package com.dinnervery.config;
 
 import com.dinnervery.security.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -40,6 +41,10 @@ public class SecurityConfig {
             .headers(headers -> headers.frameOptions(frameOptions -> frameOptions.disable()))
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(auth -> auth
+                // SSE/비동기 응답의 재디스패치는 최초 요청에서 이미 인가됨
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                // AI 주문 결과 장바구니 담기는 고객 인증 필요 (나머지 /api/ai/**는 공개)
+                .requestMatchers("/api/ai/order/cart/**").authenticated()
                 .requestMatchers(
                     "/api/auth/**",
                     "/api/ai/**",
@@ -47,8 +52,8 @@ public class SecurityConfig {
                     "/actuator/health",
                     "/actuator/info"
                 ).permitAll()
-                .requestMatchers("/api/orders/cooking").hasRole("COOK")
-                .requestMatchers("/api/orders/delivery").hasRole("DELIVERY")
+                .requestMatchers("/api/orders/cooking", "/api/orders/cooking/stream").hasRole("COOK")
+                .requestMatchers("/api/orders/delivery", "/api/orders/delivery/stream").hasRole("DELIVERY")
                 .requestMatchers(
                     "/api/cart/**",
                     "/api/orders/**",
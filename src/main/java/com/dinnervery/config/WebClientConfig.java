@@ -1,9 +1,15 @@
 package com.dinnervery.config;
 
+import io.netty.channel.ChannelOption;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
 
 @Configuration
 public class WebClientConfig {
@@ -11,11 +17,40 @@ public class WebClientConfig {
     @Value("${ai.base-url}")
     private String aiBaseUrl;
 
+    /**
+     * AI 서비스 전용 커넥션 풀
+     * 커넥션이 모두 사용 중이면 pending-acquire-max-count까지만 대기시키고 초과분은 바로 실패시켜
+     * AI 서비스가 멈췄을 때 요청이 끝없이 쌓이지 않도록 함
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider aiConnectionProvider(
+            @Value("${ai.client.max-connections:50}") int maxConnections,
+            @Value("${ai.client.pending-acquire-max-count:100}") int pendingAcquireMaxCount,
+            @Value("${ai.client.pending-acquire-timeout:2s}") Duration pendingAcquireTimeout,
+            @Value("${ai.client.max-idle-time:30s}") Duration maxIdleTime) {
+        return ConnectionProvider.builder("ai-service")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(pendingAcquireTimeout)
+                .maxIdleTime(maxIdleTime)
+                .evictInBackground(maxIdleTime)
+                .metrics(true)
+                .build();
+    }
+
     @Bean
-    public WebClient aiWebClient(WebClient.Builder builder) {
+    public WebClient aiWebClient(
+            WebClient.Builder builder,
+            ConnectionProvider aiConnectionProvider,
+            @Value("${ai.client.connect-timeout:2s}") Duration connectTimeout,
+            @Value("${ai.client.response-timeout:20s}") Duration responseTimeout) {
+        HttpClient httpClient = HttpClient.create(aiConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .responseTimeout(responseTimeout);
+
         return builder
                 .baseUrl(aiBaseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
                 .build();
     }
 }
-
@@ -1,11 +1,22 @@
 package com.dinnervery.controller;
 
+import com.dinnervery.common.ServiceUnavailableException;
 import com.dinnervery.dto.ai.response.AiOrderResponse;
+import com.dinnervery.dto.cart.request.CartBatchAddRequest;
+import com.dinnervery.dto.cart.response.CartBatchAddResponse;
+import com.dinnervery.security.SecurityUtils;
+import com.dinnervery.service.AiOrderService;
 import com.dinnervery.service.AiServiceClient;
+import com.dinnervery.service.CartFacade;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.util.Map;
 
@@ -15,6 +26,8 @@ import java.util.Map;
 public class AiController {
 
     private final AiServiceClient aiServiceClient;
+    private final AiOrderService aiOrderService;
+    private final CartFacade cartFacade;
 
     /**
      * AI 서비스를 통한 주문 처리 (음성 인식)
@@ -25,19 +38,55 @@ public class AiController {
     public Mono<ResponseEntity<AiOrderResponse>> processOrder(@RequestBody Map<String, String> request) {
         String input = request.get("text"); // 또는 request.get("audio") 등
         
-        return aiServiceClient.callAi(input)
+        return aiOrderService.processOrder(input, request.get("conversationId"))
                 .map(response -> {
                     // AI 서비스 응답을 DTO로 반환
                     AiOrderResponse result = new AiOrderResponse(true, response, null);
                     return ResponseEntity.ok(result);
                 })
                 .onErrorResume(error -> {
-                    // 에러 발생 시
+                    // 에러 발생 시 (AI 서비스 장애/차단이면 503, 그 외 400)
                     AiOrderResponse errorResult = new AiOrderResponse(false, null, error.getMessage());
-                    return Mono.just(ResponseEntity.badRequest().body(errorResult));
+                    HttpStatus status = error instanceof ServiceUnavailableException
+                            ? HttpStatus.SERVICE_UNAVAILABLE
+                            : HttpStatus.BAD_REQUEST;
+                    return Mono.just(ResponseEntity.status(status).body(errorResult));
                 });
     }
 
+    /**
+     * AI 주문 처리 (스트리밍)
+     * 생성 중인 답변은 "token" 이벤트로 바로 보내고, 최종 응답(reply, state, orderSummary)은 "summary" 이벤트로 보낸 뒤 종료
+     * 실패하거나 AI 서비스 스트림이 "summary" 없이 끝나면 "error" 이벤트(AiOrderResponse)를 보내고 종료
+     */
+    @PostMapping(value = "/order/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<Object>> streamOrder(@RequestBody Map<String, String> request) {
+        String input = request.get("text");
+
+        return aiOrderService.streamOrder(input, request.get("conversationId"))
+                .map(chunk -> chunk.isFinal()
+                        ? ServerSentEvent.<Object>builder(chunk.getResult()).event("summary").build()
+                        : ServerSentEvent.<Object>builder(chunk.getToken()).event("token").build())
+                .onErrorResume(error -> Flux.just(ServerSentEvent.<Object>builder(
+                        new AiOrderResponse(false, null, error.getMessage())).event("error").build()));
+    }
+
+    /**
+     * 확인된 AI 주문 결과를 장바구니에 한 번에 담기 (POST /api/cart/{customerId}/items/batch와 같은 처리)
+     * 권한 검증은 요청 스레드의 인증 정보로 먼저 하고, 블로킹 JPA 작업은 boundedElastic 스레드로 넘김
+     * (JDBC 호출 자체는 블로킹이며, 서블릿 요청 스레드를 비워 두는 효과만 있음)
+     */
+    @PostMapping("/order/cart/{customerId}")
+    public Mono<ResponseEntity<CartBatchAddResponse>> addOrderToCart(
+            @PathVariable Long customerId,
+            @RequestBody CartBatchAddRequest request) {
+        SecurityUtils.validateCustomerAccess(customerId);
+
+        return Mono.fromCallable(() -> cartFacade.addItemsToCart(customerId, request))
+                .subscribeOn(Schedulers.boundedElastic())
+                .map(ResponseEntity::ok);
+    }
+
     /**
      * AI 서비스 Health Check
      */
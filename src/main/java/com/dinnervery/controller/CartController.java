@@ -1,54 +1,68 @@
 package com.dinnervery.controller;
 
 import com.dinnervery.dto.cart.request.CartAddItemRequest;
+import com.dinnervery.dto.cart.request.CartBatchAddRequest;
 import com.dinnervery.dto.cart.request.CartOptionQuantityChangeRequest;
+import com.dinnervery.dto.cart.response.CartBatchAddResponse;
+import com.dinnervery.dto.cart.response.CartDeleteResponse;
+import com.dinnervery.dto.cart.response.CartItemResponse;
+import com.dinnervery.dto.cart.response.CartOptionChangeResponse;
+import com.dinnervery.dto.cart.response.CartResponse;
 import com.dinnervery.security.SecurityUtils;
-import com.dinnervery.service.CartService;
+import com.dinnervery.service.CartFacade;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.Map;
-
 @RestController
 @RequestMapping("/api")
 @RequiredArgsConstructor
 public class CartController {
 
-    private final CartService cartService;
+    private final CartFacade cartFacade;
 
     @PostMapping("/cart/{customerId}/items")
-    public ResponseEntity<Map<String, Object>> addItemToCart(@PathVariable Long customerId, @RequestBody CartAddItemRequest request) {
+    public ResponseEntity<CartItemResponse> addItemToCart(@PathVariable Long customerId, @RequestBody CartAddItemRequest request) {
+        SecurityUtils.validateCustomerAccess(customerId);
+        CartItemResponse response = cartFacade.addItemToCart(customerId, request);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 여러 아이템을 한 번에 추가 (AI 주문 결과를 장바구니에 담을 때 아이템마다 호출하지 않도록)
+     */
+    @PostMapping("/cart/{customerId}/items/batch")
+    public ResponseEntity<CartBatchAddResponse> addItemsToCart(@PathVariable Long customerId, @RequestBody CartBatchAddRequest request) {
         SecurityUtils.validateCustomerAccess(customerId);
-        Map<String, Object> response = cartService.addItemToCart(customerId, request);
+        CartBatchAddResponse response = cartFacade.addItemsToCart(customerId, request);
         return ResponseEntity.ok(response);
     }
 
     @DeleteMapping("/cart/{customerId}/items")
-    public ResponseEntity<Map<String, Object>> deleteCartItem(
+    public ResponseEntity<CartDeleteResponse> deleteCartItem(
             @PathVariable Long customerId,
             @RequestParam(required = false) Long cartItemId) {
         SecurityUtils.validateCustomerAccess(customerId);
         Long itemId = (cartItemId != null && cartItemId != 0) ? cartItemId : 0L;
-        Map<String, Object> response = cartService.deleteCartItem(customerId, itemId);
+        CartDeleteResponse response = cartFacade.deleteCartItem(customerId, itemId);
         return ResponseEntity.ok(response);
     }
 
     @GetMapping("/cart/{customerId}")
-    public ResponseEntity<Map<String, Object>> getCart(@PathVariable Long customerId) {
+    public ResponseEntity<CartResponse> getCart(@PathVariable Long customerId) {
         SecurityUtils.validateCustomerAccess(customerId);
-        Map<String, Object> response = cartService.getCart(customerId);
+        CartResponse response = cartFacade.getCart(customerId);
         return ResponseEntity.ok(response);
     }
 
     @PatchMapping("/cart/{customerId}/items/{cartItemId}/options/{optionId}")
-    public ResponseEntity<Map<String, Object>> changeOptionQuantity(
+    public ResponseEntity<CartOptionChangeResponse> changeOptionQuantity(
             @PathVariable Long customerId, 
             @PathVariable Long cartItemId, 
             @PathVariable Long optionId,
             @RequestBody CartOptionQuantityChangeRequest request) {
         SecurityUtils.validateCustomerAccess(customerId);
-        Map<String, Object> response = cartService.changeOptionQuantity(customerId, cartItemId, optionId, request);
+        CartOptionChangeResponse response = cartFacade.changeOptionQuantity(customerId, cartItemId, optionId, request);
         return ResponseEntity.ok(response);
     }
     
@@ -4,10 +4,16 @@ import com.dinnervery.dto.order.response.OrderListResponse;
 import com.dinnervery.dto.order.response.DeliveryOrderListResponse;
 import com.dinnervery.dto.order.response.OrderUpdateResponse;
 import com.dinnervery.security.SecurityUtils;
+import com.dinnervery.service.OrderBoardStream;
+import com.dinnervery.service.OrderHistoryService;
 import com.dinnervery.service.OrderService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import reactor.core.publisher.Flux;
 
 import java.util.Map;
 
@@ -17,6 +23,8 @@ import java.util.Map;
 public class OrderController {
 
     private final OrderService orderService;
+    private final OrderBoardStream orderBoardStream;
+    private final OrderHistoryService orderHistoryService;
 
     @GetMapping("/orders/cooking")
     public ResponseEntity<OrderListResponse> getCookingOrders() {
@@ -30,11 +38,46 @@ public class OrderController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 요리사 현황판 SSE 스트림
+     * 최초 "snapshot" 이벤트로 전체 목록, 이후 "order" 이벤트로 변경된 주문을 전달
+     */
+    @GetMapping(value = "/orders/cooking/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<Object>> streamCookingOrders() {
+        return orderBoardStream.cookingBoard();
+    }
+
+    /**
+     * 배달원 현황판 SSE 스트림
+     */
+    @GetMapping(value = "/orders/delivery/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<Object>> streamDeliveryOrders() {
+        return orderBoardStream.deliveryBoard();
+    }
+
+    /**
+     * 고객 주문 내역
+     * 기본은 한 페이지(size 기본 20)와 다음 페이지 커서(nextCursor)를 반환하고,
+     * all=true일 때만 전체 내역을 조회 결과를 읽는 대로 응답에 스트리밍
+     */
     @GetMapping("/orders/customer/{customerId}")
-    public ResponseEntity<Map<String, Object>> getOrdersByCustomerId(@PathVariable Long customerId) {
+    public ResponseEntity<StreamingResponseBody> getOrdersByCustomerId(
+            @PathVariable Long customerId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "false") boolean all) {
         SecurityUtils.validateCustomerAccess(customerId);
-        Map<String, Object> response = orderService.getOrdersByCustomerIdForResponse(customerId);
-        return ResponseEntity.ok(response);
+
+        StreamingResponseBody body;
+        if (all) {
+            body = out -> orderHistoryService.writeOrderHistory(customerId, out);
+        } else {
+            OrderHistoryService.Page page = orderHistoryService.loadPage(customerId, cursor, size);
+            body = out -> orderHistoryService.writePage(page, out);
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
     }
 
     @PatchMapping("/orders/{id}/status")
@@ -1,13 +1,19 @@
 package com.dinnervery.controller;
 
+import com.dinnervery.dto.order.response.OrderIntakeResponse;
 import com.dinnervery.dto.order.response.OrderResponse;
 import com.dinnervery.dto.order.request.OrderCreateRequest;
+import com.dinnervery.security.SecurityUtils;
+import com.dinnervery.service.OrderIdempotencyService;
+import com.dinnervery.service.OrderIntakeService;
 import com.dinnervery.service.OrderService;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -15,12 +21,43 @@ import org.springframework.web.bind.annotation.*;
 @RequiredArgsConstructor
 public class PaymentController {
 
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
     private final OrderService orderService;
+    private final OrderIdempotencyService orderIdempotencyService;
+    private final OrderIntakeService orderIntakeService;
 
+    /**
+     * 주문 생성
+     * Idempotency-Key 헤더가 있으면 같은 키로 재시도해도 주문은 한 번만 생성되고 최초 응답을 그대로 반환
+     * orders.intake.mode=async면 접수만 하고 202와 추적 ID를 반환 (Idempotency-Key 요청은 항상 동기 처리)
+     */
     @PostMapping("/orders")
-    public ResponseEntity<OrderResponse> createOrder(@Valid @RequestBody OrderCreateRequest request) {
+    public ResponseEntity<?> createOrder(
+            @Valid @RequestBody OrderCreateRequest request,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
+        if (StringUtils.hasText(idempotencyKey)) {
+            byte[] response = orderIdempotencyService.createOrder(idempotencyKey, request);
+            return ResponseEntity.status(HttpStatus.CREATED)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(response);
+        }
+
+        if (orderIntakeService.isAsync()) {
+            OrderIntakeResponse response = orderIntakeService.submit(request);
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+        }
+
         OrderResponse response = orderService.createOrder(request);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
-}
 
+    /**
+     * 비동기 주문 접수 상태 조회
+     */
+    @GetMapping("/orders/intake/{trackingId}")
+    public ResponseEntity<OrderIntakeResponse> getIntakeStatus(@PathVariable String trackingId) {
+        OrderIntakeResponse response = orderIntakeService.getStatus(trackingId, SecurityUtils.getCurrentUserId());
+        return ResponseEntity.ok(response);
+    }
+}
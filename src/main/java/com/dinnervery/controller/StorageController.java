@@ -1,13 +1,15 @@
 package com.dinnervery.controller;
 
+import com.dinnervery.dto.storage.response.StockSnapshot;
 import com.dinnervery.service.StorageService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
-
-import java.util.Map;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api")
@@ -16,11 +18,20 @@ public class StorageController {
 
 	private final StorageService storageService;
 
+	/**
+	 * 재고 목록 조회
+	 * If-None-Match가 현재 ETag와 같으면 본문 없이 304 반환
+	 */
 	@GetMapping("/storage")
-	public ResponseEntity<Map<String, Object>> getAllStorage() {
-		Map<String, Object> response = storageService.getAllStorage();
-		return ResponseEntity.ok(response);
+	public ResponseEntity<byte[]> getAllStorage(WebRequest request) {
+		StockSnapshot snapshot = storageService.getStockSnapshot();
+		if (request.checkNotModified(snapshot.getEtag())) {
+			return null;
+		}
+		return ResponseEntity.ok()
+				.eTag(snapshot.getEtag())
+				.cacheControl(CacheControl.noCache())
+				.contentType(MediaType.APPLICATION_JSON)
+				.body(snapshot.getBody());
 	}
 }
-
-
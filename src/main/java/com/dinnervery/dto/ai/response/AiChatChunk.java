@@ -0,0 +1,29 @@
+package com.dinnervery.dto.ai.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * AI 서비스 스트리밍 응답 조각
+ * 생성 중에는 token만, 마지막 조각에는 result(최종 응답)만 채워짐
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AiChatChunk {
+    private String token;
+    private AiChatResponse result;
+
+    public static AiChatChunk token(String token) {
+        return new AiChatChunk(token, null);
+    }
+
+    public static AiChatChunk result(AiChatResponse result) {
+        return new AiChatChunk(null, result);
+    }
+
+    public boolean isFinal() {
+        return result != null;
+    }
+}
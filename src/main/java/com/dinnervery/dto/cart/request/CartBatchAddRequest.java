@@ -0,0 +1,18 @@
+package com.dinnervery.dto.cart.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 장바구니 아이템 일괄 추가 요청 (AI 주문 결과 등 여러 아이템을 한 번에 담을 때)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CartBatchAddRequest {
+
+    private List<CartAddItemRequest> items;
+}
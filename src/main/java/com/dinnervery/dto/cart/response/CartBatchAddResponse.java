@@ -0,0 +1,15 @@
+package com.dinnervery.dto.cart.response;
+
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * 장바구니 아이템 일괄 추가 응답 (추가된 아이템 + 장바구니 총액)
+ */
+@Value
+public class CartBatchAddResponse {
+
+    List<CartItemResponse> items;
+    int totalAmount;
+}
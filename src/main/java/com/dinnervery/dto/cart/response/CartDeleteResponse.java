@@ -0,0 +1,30 @@
+package com.dinnervery.dto.cart.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * 장바구니 삭제 응답
+ * 장바구니가 비면 빈 cartItems, 아이템이 남아 있으면 remainingItemsCount만 포함
+ */
+@Value
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CartDeleteResponse {
+
+    String message;
+    List<Object> cartItems;
+    Integer remainingItemsCount;
+
+    public static CartDeleteResponse cleared() {
+        return new CartDeleteResponse("장바구니가 모두 삭제되었습니다.", List.of(), null);
+    }
+
+    public static CartDeleteResponse itemDeleted(int remainingItemsCount) {
+        if (remainingItemsCount == 0) {
+            return new CartDeleteResponse("장바구니 아이템이 삭제되었습니다.", List.of(), null);
+        }
+        return new CartDeleteResponse("장바구니 아이템이 삭제되었습니다.", null, remainingItemsCount);
+    }
+}
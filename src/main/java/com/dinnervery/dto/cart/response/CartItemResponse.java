@@ -0,0 +1,25 @@
+package com.dinnervery.dto.cart.response;
+
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * 장바구니 아이템 추가/수정 응답
+ */
+@Value
+public class CartItemResponse {
+
+    Long cartItemId;
+    CartMenuResponse menu;
+    Style style;
+    List<CartOptionResponse> options;
+    int totalAmount;
+
+    @Value
+    public static class Style {
+        Long styleId;
+        String name;
+        int price;
+    }
+}
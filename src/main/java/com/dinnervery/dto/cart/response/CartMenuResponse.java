@@ -0,0 +1,12 @@
+package com.dinnervery.dto.cart.response;
+
+import lombok.Value;
+
+@Value
+public class CartMenuResponse {
+
+    Long menuId;
+    String name;
+    Integer quantity;
+    int unitPrice;
+}
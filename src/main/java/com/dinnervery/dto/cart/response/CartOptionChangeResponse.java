@@ -0,0 +1,15 @@
+package com.dinnervery.dto.cart.response;
+
+import lombok.Value;
+
+/**
+ * 장바구니 옵션 수량 변경 응답
+ */
+@Value
+public class CartOptionChangeResponse {
+
+    Long cartItemId;
+    CartOptionResponse option;
+    int itemTotal;
+    int totalAmount;
+}
@@ -0,0 +1,12 @@
+package com.dinnervery.dto.cart.response;
+
+import lombok.Value;
+
+@Value
+public class CartOptionResponse {
+
+    Long optionId;
+    String name;
+    Integer quantity;
+    int unitPrice;
+}
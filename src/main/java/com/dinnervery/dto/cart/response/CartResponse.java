@@ -0,0 +1,42 @@
+package com.dinnervery.dto.cart.response;
+
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * 장바구니 조회 응답
+ */
+@Value
+public class CartResponse {
+
+    Long cartId;
+    Long customerId;
+    List<Item> cartItems;
+    int totalAmount;
+
+    @Value
+    public static class Item {
+        Long cartItemId;
+        CartMenuResponse dinnerItem;
+        Style style;
+        List<Option> options;
+    }
+
+    @Value
+    public static class Style {
+        Long styleId;
+        String name;
+        int extraPrice;
+    }
+
+    @Value
+    public static class Option {
+        Long optionId;
+        String name;
+        Integer quantity;
+        int defaultQty;
+        int unitPrice;
+        int extraPrice;
+    }
+}
@@ -0,0 +1,114 @@
+package com.dinnervery.dto.order.command;
+
+import com.dinnervery.dto.order.request.OrderCreateRequest;
+import com.dinnervery.entity.CartItem;
+import com.dinnervery.entity.CartItemOption;
+import lombok.Value;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 주문 생성에 필요한 값만 담은 불변 명령
+ * 장바구니를 읽은 시점의 내용을 복사해 두므로 엔티티/영속성 컨텍스트와 무관하게 큐에 넣을 수 있음
+ */
+@Value
+public class OrderCommand {
+
+    Long customerId;
+    String address;
+    String cardNumber;
+    LocalTime deliveryTime;
+    List<Item> items;
+
+    public static OrderCommand of(OrderCreateRequest request, List<CartItem> cartItems) {
+        List<Item> items = new ArrayList<>(cartItems.size());
+        for (CartItem cartItem : cartItems) {
+            items.add(Item.from(cartItem));
+        }
+        return new OrderCommand(
+                request.getCustomerId(),
+                request.getAddress(),
+                request.getCardNumber(),
+                request.getDeliveryTime(),
+                List.copyOf(items)
+        );
+    }
+
+    @Value
+    public static class Item {
+        Long menuId;
+        String menuName;
+        int menuPrice;
+        Long styleId;
+        String styleName;
+        int styleExtraPrice;
+        int quantity;
+        List<Option> options;
+
+        static Item from(CartItem cartItem) {
+            List<Option> options = new ArrayList<>(cartItem.getCartItemOptions().size());
+            for (CartItemOption cartItemOption : cartItem.getCartItemOptions()) {
+                options.add(Option.from(cartItemOption));
+            }
+            return new Item(
+                    cartItem.getMenuId(),
+                    cartItem.getMenuName(),
+                    cartItem.getMenuPrice(),
+                    cartItem.getStyleId(),
+                    cartItem.getStyleName(),
+                    cartItem.getStyleExtraPrice(),
+                    cartItem.getQuantity(),
+                    List.copyOf(options)
+            );
+        }
+
+        /**
+         * 장바구니 아이템으로 되돌림 (주문 저장 실패 시 장바구니 복구용)
+         */
+        public CartItem toCartItem() {
+            CartItem cartItem = CartItem.builder()
+                    .menuId(menuId)
+                    .menuName(menuName)
+                    .menuPrice(menuPrice)
+                    .styleId(styleId)
+                    .styleName(styleName)
+                    .styleExtraPrice(styleExtraPrice)
+                    .quantity(quantity)
+                    .build();
+            for (Option option : options) {
+                cartItem.addCartItemOption(CartItemOption.builder()
+                        .optionId(option.getOptionId())
+                        .optionName(option.getOptionName())
+                        .optionPrice(option.getOptionPrice())
+                        .defaultQty(option.getDefaultQty())
+                        .quantity(option.getQuantity())
+                        .storageRecipe(option.getStorageRecipe())
+                        .build());
+            }
+            return cartItem;
+        }
+    }
+
+    @Value
+    public static class Option {
+        Long optionId;
+        String optionName;
+        int optionPrice;
+        int defaultQty;
+        int quantity;
+        String storageRecipe;
+
+        static Option from(CartItemOption cartItemOption) {
+            return new Option(
+                    cartItemOption.getOptionId(),
+                    cartItemOption.getOptionName(),
+                    cartItemOption.getOptionPrice(),
+                    cartItemOption.getDefaultQty(),
+                    cartItemOption.getQuantity(),
+                    cartItemOption.getStorageRecipe()
+            );
+        }
+    }
+}
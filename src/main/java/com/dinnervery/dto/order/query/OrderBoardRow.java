@@ -0,0 +1,26 @@
+package com.dinnervery.dto.order.query;
+
+import com.dinnervery.entity.Order;
+import lombok.Value;
+
+import java.time.LocalTime;
+
+/**
+ * 주문 현황판 조회용 평면 프로젝션 (주문 x 아이템 x 옵션 한 행)
+ * 옵션이 없는 아이템은 옵션 컬럼이 null
+ */
+@Value
+public class OrderBoardRow {
+    Long orderId;
+    Order.Status status;
+    LocalTime deliveryTime;
+    Long orderItemId;
+    Long menuId;
+    String menuName;
+    Integer quantity;
+    Long styleId;
+    String styleName;
+    Long optionId;
+    String optionName;
+    Integer optionQuantity;
+}
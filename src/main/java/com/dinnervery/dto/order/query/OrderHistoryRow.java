@@ -0,0 +1,26 @@
+package com.dinnervery.dto.order.query;
+
+import com.dinnervery.entity.Order;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * 고객 주문 내역 조회용 평면 프로젝션 (주문 x 아이템 x 옵션 한 행)
+ * 옵션이 없는 아이템은 옵션 컬럼이 null
+ */
+@Value
+public class OrderHistoryRow {
+    Long orderId;
+    LocalDateTime createdAt;
+    int totalPrice;
+    Order.Status status;
+    LocalTime deliveryTime;
+    Long orderItemId;
+    String menuName;
+    Integer quantity;
+    String styleName;
+    String optionName;
+    Integer optionQuantity;
+}
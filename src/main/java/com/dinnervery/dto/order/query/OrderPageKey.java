@@ -0,0 +1,14 @@
+package com.dinnervery.dto.order.query;
+
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 내역 키셋 페이지 조회용 키 (created_at DESC, id DESC 순)
+ */
+@Value
+public class OrderPageKey {
+    Long orderId;
+    LocalDateTime createdAt;
+}
@@ -0,0 +1,36 @@
+package com.dinnervery.dto.order.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Value;
+
+/**
+ * 비동기 주문 접수 상태
+ * orderId는 COMPLETED, message는 FAILED일 때만 포함
+ */
+@Value
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class OrderIntakeResponse {
+
+    String trackingId;
+    Status status;
+    Long orderId;
+    String message;
+
+    public static OrderIntakeResponse queued(String trackingId) {
+        return new OrderIntakeResponse(trackingId, Status.QUEUED, null, null);
+    }
+
+    public static OrderIntakeResponse completed(String trackingId, Long orderId) {
+        return new OrderIntakeResponse(trackingId, Status.COMPLETED, orderId, null);
+    }
+
+    public static OrderIntakeResponse failed(String trackingId, String message) {
+        return new OrderIntakeResponse(trackingId, Status.FAILED, null, message);
+    }
+
+    public enum Status {
+        QUEUED,     // 큐 대기 중
+        COMPLETED,  // 주문 저장 완료
+        FAILED      // 주문 저장 실패
+    }
+}
@@ -0,0 +1,13 @@
+package com.dinnervery.dto.storage.response;
+
+import lombok.Value;
+
+/**
+ * 미리 직렬화해 둔 재고 목록 JSON과 그 ETag
+ */
+@Value
+public class StockSnapshot {
+    long version;
+    String etag;
+    byte[] body;
+}
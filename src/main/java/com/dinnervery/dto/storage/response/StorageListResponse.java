@@ -0,0 +1,17 @@
+package com.dinnervery.dto.storage.response;
+
+import lombok.Value;
+
+import java.util.List;
+
+@Value
+public class StorageListResponse {
+    List<StorageItem> storageItems;
+
+    @Value
+    public static class StorageItem {
+        Long storageId;
+        String name;
+        int quantity;
+    }
+}
@@ -3,6 +3,7 @@ package com.dinnervery.entity;
 import com.dinnervery.common.BaseEntity;
 
 import jakarta.persistence.*;
+import org.hibernate.Hibernate;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -32,22 +33,44 @@ public class Cart extends BaseEntity {
         this.customer = customer;
     }
 
+    /**
+     * 총액은 아이템 추가/삭제/변경 시 변화량만 반영 (전체 재계산 없음)
+     */
     public void addCartItem(CartItem cartItem) {
         this.cartItems.add(cartItem);
         cartItem.setCart(this);
-        calculateTotalAmount();
+        this.totalAmount += cartItem.getItemTotalPrice();
     }
 
     public void removeCartItem(CartItem cartItem) {
-        this.cartItems.remove(cartItem);
-        cartItem.setCart(null);
-        calculateTotalAmount();
+        if (this.cartItems.remove(cartItem)) {
+            cartItem.setCart(null);
+            this.totalAmount -= cartItem.getItemTotalPrice();
+        }
     }
 
-    public void calculateTotalAmount() {
-        this.totalAmount = this.cartItems.stream()
-                .mapToInt(CartItem::getItemTotalPrice)
-                .sum();
+    void applyItemTotalDelta(int delta) {
+        this.totalAmount += delta;
+    }
+
+    /**
+     * flush 시 한 번만 전체 재계산하여 누적 총액을 검증 (아이템이 로딩된 경우만)
+     * 이전 버전에서 어긋난 총액은 배포 후 첫 기동 때 한 번 CartRepository.recalculateTotalAmounts로 보정됨 (DataLoader)
+     */
+    @PrePersist
+    @PreUpdate
+    void verifyTotalAmount() {
+        if (!Hibernate.isInitialized(this.cartItems)) {
+            return;
+        }
+        int expected = 0;
+        for (CartItem cartItem : this.cartItems) {
+            cartItem.verifyItemPrice();
+            expected += cartItem.getItemTotalPrice();
+        }
+        if (expected != this.totalAmount) {
+            throw new IllegalStateException("장바구니 총액이 항목 합계와 일치하지 않습니다. 총액: " + this.totalAmount + ", 합계: " + expected);
+        }
     }
 }
 
@@ -1,8 +1,9 @@
 package com.dinnervery.entity;
 
-import com.dinnervery.common.BaseEntity;
+import com.dinnervery.common.CartPooledIdEntity;
 
 import jakarta.persistence.*;
+import org.hibernate.Hibernate;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -12,7 +13,7 @@ import lombok.NoArgsConstructor;
 @Table(name = "cart_items")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class CartItem extends BaseEntity {
+public class CartItem extends CartPooledIdEntity {
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "cart_id", nullable = false)
@@ -60,7 +61,8 @@ public class CartItem extends BaseEntity {
         this.styleName = styleName;
         this.styleExtraPrice = styleExtraPrice;
         this.quantity = quantity;
-        calculateItemPrice();
+        this.price = menuPrice + styleExtraPrice;
+        this.itemTotalPrice = quantity == null ? 0 : this.price * quantity;
     }
 
     public void setCart(Cart cart) {
@@ -68,10 +70,11 @@ public class CartItem extends BaseEntity {
     }
 
     public void setStyle(Long styleId, String styleName, int styleExtraPrice) {
+        int delta = styleExtraPrice - this.styleExtraPrice;
         this.styleId = styleId;
         this.styleName = styleName;
         this.styleExtraPrice = styleExtraPrice;
-        calculateItemPrice();
+        applyPriceDelta(delta);
     }
 
     public void updateQuantity(Integer newQuantity) {
@@ -79,18 +82,42 @@ public class CartItem extends BaseEntity {
             throw new IllegalArgumentException("수량은 1 이상이어야 합니다.");
         }
         this.quantity = newQuantity;
-        calculateItemPrice();
+        refreshItemTotalPrice();
     }
 
-    void calculateItemPrice() {
-        int basePrice = menuPrice + styleExtraPrice;
-        int optionsExtra = 0;
-        for (CartItemOption option : cartItemOptions) {
-            optionsExtra += option.calculateExtraCost();
+    /**
+     * 단가 변화량(옵션 추가 비용, 스타일 가격)을 반영하고 장바구니 총액에 전달
+     */
+    void applyPriceDelta(int delta) {
+        if (delta == 0) {
+            return;
+        }
+        this.price += delta;
+        refreshItemTotalPrice();
+    }
+
+    private void refreshItemTotalPrice() {
+        int previous = this.itemTotalPrice;
+        this.itemTotalPrice = this.quantity == null ? 0 : this.price * this.quantity;
+        if (this.cart != null) {
+            this.cart.applyItemTotalDelta(this.itemTotalPrice - previous);
+        }
+    }
+
+    /**
+     * 누적 단가/합계를 옵션 목록으로 다시 계산해 검증 (옵션이 로딩된 경우만)
+     */
+    void verifyItemPrice() {
+        if (!Hibernate.isInitialized(this.cartItemOptions)) {
+            return;
+        }
+        int expectedPrice = this.menuPrice + this.styleExtraPrice;
+        for (CartItemOption option : this.cartItemOptions) {
+            expectedPrice += option.calculateExtraCost();
+        }
+        if (expectedPrice != this.price || expectedPrice * this.quantity != this.itemTotalPrice) {
+            throw new IllegalStateException("장바구니 아이템 금액이 옵션 합계와 일치하지 않습니다: " + this.menuName);
         }
-        int unitPrice = basePrice + optionsExtra;
-        this.price = unitPrice;
-        this.itemTotalPrice = unitPrice * quantity;
     }
 
     public java.util.List<CartItemOption> getCartItemOptions() {
@@ -100,13 +127,14 @@ public class CartItem extends BaseEntity {
     public void addCartItemOption(CartItemOption option) {
         this.cartItemOptions.add(option);
         option.setCartItem(this);
-        calculateItemPrice();
+        applyPriceDelta(option.calculateExtraCost());
     }
 
     public void removeCartItemOption(CartItemOption option) {
-        this.cartItemOptions.remove(option);
-        option.setCartItem(null);
-        calculateItemPrice();
+        if (this.cartItemOptions.remove(option)) {
+            option.setCartItem(null);
+            applyPriceDelta(-option.calculateExtraCost());
+        }
     }
 
     public void updateItem(Long menuId, String menuName, int menuPrice, Long styleId, String styleName, int styleExtraPrice, Integer quantity) {
@@ -122,6 +150,7 @@ public class CartItem extends BaseEntity {
         this.quantity = quantity;
         // 기존 옵션들 모두 삭제 (orphanRemoval=true이므로 자동 삭제됨)
         this.cartItemOptions.clear();
-        calculateItemPrice();
+        this.price = menuPrice + styleExtraPrice;
+        refreshItemTotalPrice();
     }
 }
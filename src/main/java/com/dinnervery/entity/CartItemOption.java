@@ -1,6 +1,6 @@
 package com.dinnervery.entity;
 
-import com.dinnervery.common.BaseEntity;
+import com.dinnervery.common.CartPooledIdEntity;
 
 import jakarta.persistence.*;
 import lombok.AccessLevel;
@@ -12,7 +12,7 @@ import lombok.NoArgsConstructor;
 @Table(name = "cart_item_options")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class CartItemOption extends BaseEntity {
+public class CartItemOption extends CartPooledIdEntity {
 
 	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "cart_item_id", nullable = false)
@@ -33,11 +33,15 @@ public class CartItemOption extends BaseEntity {
 	@Column(name = "quantity", nullable = false)
 	private Integer quantity;
 
-	@Column(name = "storage_consumption", nullable = false)
-	private int storageConsumption = 1;
+	/**
+	 * 옵션 1개가 소비하는 재료별 수량 (재고 이름 -> 수량 JSON), 담을 때의 레시피를 고정해 둠
+	 * 이 컬럼이 생기기 전에 저장된 행은 null이며, 조리 완료 시 현재 레시피 테이블로 대신 조회함
+	 */
+	@Column(name = "storage_recipe", length = 1000)
+	private String storageRecipe;
 
 	@Builder
-	public CartItemOption(Long optionId, String optionName, int optionPrice, int defaultQty, Integer quantity, Integer storageConsumption) {
+	public CartItemOption(Long optionId, String optionName, int optionPrice, int defaultQty, Integer quantity, String storageRecipe) {
 		if (quantity != null && quantity < 1) {
 			throw new IllegalArgumentException("수량은 1 이상이어야 합니다.");
 		}
@@ -46,23 +50,24 @@ public class CartItemOption extends BaseEntity {
 		this.optionPrice = optionPrice;
 		this.defaultQty = defaultQty;
 		this.quantity = quantity;
-		this.storageConsumption = storageConsumption != null ? storageConsumption : 1;
+		this.storageRecipe = storageRecipe;
 	}
 
-	public void setCartItem(CartItem cartItem) {
+	/**
+	 * 연관관계만 설정 (목록 추가와 금액 반영은 CartItem.addCartItemOption에서)
+	 */
+	void setCartItem(CartItem cartItem) {
 		this.cartItem = cartItem;
-		if (cartItem != null && !cartItem.getCartItemOptions().contains(this)) {
-			cartItem.addCartItemOption(this);
-		}
 	}
 
 	public void updateQuantity(Integer newQuantity) {
 		if (newQuantity == null || newQuantity < 1) {
 			throw new IllegalArgumentException("수량은 1 이상이어야 합니다.");
 		}
+		int previousExtraCost = calculateExtraCost();
 		this.quantity = newQuantity;
 		if (this.cartItem != null) {
-			this.cartItem.calculateItemPrice();
+			this.cartItem.applyPriceDelta(calculateExtraCost() - previousExtraCost);
 		}
 	}
 
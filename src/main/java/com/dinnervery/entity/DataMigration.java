@@ -0,0 +1,28 @@
+package com.dinnervery.entity;
+
+import com.dinnervery.common.BaseTimeEntity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 한 번만 실행하는 데이터 보정 작업의 실행 기록 (이름이 있으면 이미 실행됨, 실행 시각은 created_at)
+ */
+@Entity
+@Table(name = "data_migrations")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DataMigration extends BaseTimeEntity {
+
+    @Id
+    @Column(name = "name", length = 100)
+    private String name;
+
+    @Builder
+    public DataMigration(String name) {
+        this.name = name;
+    }
+}
@@ -0,0 +1,43 @@
+package com.dinnervery.entity;
+
+import com.dinnervery.common.BaseEntity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 옵션 1개당 소비하는 재고 (옵션 하나가 여러 재료를 쓰면 여러 행)
+ * optionId가 있으면 optionId로, 없으면 옵션 이름으로 매핑됨
+ */
+@Entity
+@Table(name = "option_recipes")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OptionRecipe extends BaseEntity {
+
+	@Column(name = "option_id")
+	private Long optionId;
+
+	@Column(name = "option_name", nullable = false)
+	private String optionName;
+
+	@Column(name = "storage_name", nullable = false)
+	private String storageName;
+
+	@Column(name = "units", nullable = false)
+	private int units;
+
+	@Builder
+	public OptionRecipe(Long optionId, String optionName, String storageName, int units) {
+		if (units < 1) {
+			throw new IllegalArgumentException("재고 소비량은 1 이상이어야 합니다.");
+		}
+		this.optionId = optionId;
+		this.optionName = optionName;
+		this.storageName = storageName;
+		this.units = units;
+	}
+}
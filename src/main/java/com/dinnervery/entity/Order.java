@@ -1,8 +1,9 @@
 package com.dinnervery.entity;
 
-import com.dinnervery.common.BaseEntity;
+import com.dinnervery.common.PooledIdEntity;
 
 import jakarta.persistence.*;
+import org.hibernate.Hibernate;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -14,10 +15,13 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+        // 고객 주문 내역 키셋 페이지네이션 (customer_id, created_at DESC, id DESC)
+        @Index(name = "idx_orders_customer_created_id", columnList = "customer_id, created_at DESC, id DESC")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class Order extends BaseEntity {
+public class Order extends PooledIdEntity {
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "customer_id", nullable = false)
@@ -61,23 +65,43 @@ public class Order extends BaseEntity {
         this.totalPrice = 0;
     }
 
+    /**
+     * 총액은 항목 추가/삭제/수량 변경 시 변화량만 반영 (전체 재계산 없음)
+     */
     public void addOrderItem(OrderItem orderItem) {
         this.orderItems.add(orderItem);
         orderItem.setOrder(this);
-        orderItem.calculateItemPrice();
-        calculateTotalPrice();
+        this.totalPrice += orderItem.getItemTotalPrice();
     }
 
     public void removeOrderItem(OrderItem orderItem) {
-        this.orderItems.remove(orderItem);
-        orderItem.setOrder(null);
-        calculateTotalPrice();
+        if (this.orderItems.remove(orderItem)) {
+            orderItem.setOrder(null);
+            this.totalPrice -= orderItem.getItemTotalPrice();
+        }
+    }
+
+    void applyItemTotalDelta(int delta) {
+        this.totalPrice += delta;
     }
 
-    public void calculateTotalPrice() {
-        this.totalPrice = this.orderItems.stream()
-                .mapToInt(OrderItem::getItemTotalPrice)
-                .sum();
+    /**
+     * flush 시 한 번만 전체 재계산하여 누적 금액을 검증 (항목이 로딩된 경우만)
+     */
+    @PrePersist
+    @PreUpdate
+    void verifyTotalPrice() {
+        if (!Hibernate.isInitialized(this.orderItems)) {
+            return;
+        }
+        int expected = 0;
+        for (OrderItem orderItem : this.orderItems) {
+            orderItem.verifyItemPrice();
+            expected += orderItem.getItemTotalPrice();
+        }
+        if (expected != this.totalPrice) {
+            throw new IllegalStateException("주문 총액이 항목 합계와 일치하지 않습니다. 총액: " + this.totalPrice + ", 합계: " + expected);
+        }
     }
 
     public void startCooking() {
@@ -0,0 +1,49 @@
+package com.dinnervery.entity;
+
+import com.dinnervery.common.BaseEntity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 주문 생성 요청의 Idempotency-Key와 최초 요청 해시, 최초 응답
+ * 같은 키로 같은 요청을 다시 보내면 저장된 응답을 그대로 반환
+ */
+@Entity
+@Table(name = "order_idempotency_keys",
+        uniqueConstraints = @UniqueConstraint(name = "uk_order_idempotency_customer_key", columnNames = {"customer_id", "idempotency_key"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OrderIdempotencyKey extends BaseEntity {
+
+    @Column(name = "customer_id", nullable = false)
+    private Long customerId;
+
+    @Column(name = "idempotency_key", nullable = false, length = 100)
+    private String idempotencyKey;
+
+    /**
+     * 최초 요청 본문의 SHA-256 (해시를 저장하기 전에 만들어진 행은 null)
+     */
+    @Column(name = "request_hash", length = 64)
+    private String requestHash;
+
+    @Column(name = "order_id", nullable = false)
+    private Long orderId;
+
+    @Lob
+    @Column(name = "response", nullable = false, columnDefinition = "TEXT")
+    private String response;
+
+    @Builder
+    public OrderIdempotencyKey(Long customerId, String idempotencyKey, String requestHash, Long orderId, String response) {
+        this.customerId = customerId;
+        this.idempotencyKey = idempotencyKey;
+        this.requestHash = requestHash;
+        this.orderId = orderId;
+        this.response = response;
+    }
+}
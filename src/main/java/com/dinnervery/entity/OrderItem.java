@@ -1,8 +1,9 @@
 package com.dinnervery.entity;
 
-import com.dinnervery.common.BaseEntity;
+import com.dinnervery.common.PooledIdEntity;
 
 import jakarta.persistence.*;
+import org.hibernate.Hibernate;
 import org.hibernate.annotations.BatchSize;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -16,7 +17,7 @@ import java.util.List;
 @Table(name = "order_items")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class OrderItem extends BaseEntity {
+public class OrderItem extends PooledIdEntity {
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "order_id", nullable = false)
@@ -65,46 +66,67 @@ public class OrderItem extends BaseEntity {
         this.styleName = styleName;
         this.styleExtraPrice = styleExtraPrice;
         this.quantity = quantity;
+        this.price = menuPrice + styleExtraPrice;
+        this.itemTotalPrice = quantity == null ? 0 : this.price * quantity;
     }
 
     public void setOrder(Order order) {
         this.order = order;
     }
 
-    public void calculateItemPrice() {
-        int basePrice = menuPrice + styleExtraPrice;
-        
-        int optionCost = orderItemOptions.stream()
-            .mapToInt(OrderItemOption::calculateExtraCost)
-            .sum();
-        
-        this.price = basePrice + optionCost;
-        this.itemTotalPrice = this.price * quantity;
-        
-        if (this.order != null) {
-            this.order.calculateTotalPrice();
-        }
-    }
-
     public void updateQuantity(Integer newQty) {
         if (newQty == null || newQty < 1) {
             throw new IllegalArgumentException("수량은 1 이상이어야 합니다.");
         }
         this.quantity = newQty;
-        calculateItemPrice();
+        refreshItemTotalPrice();
     }
 
     public void addOrderItemOption(OrderItemOption orderItemOption) {
         this.orderItemOptions.add(orderItemOption);
         orderItemOption.setOrderItem(this);
-        calculateItemPrice();
+        applyOptionCostDelta(orderItemOption.calculateExtraCost());
     }
 
     public void removeOrderItemOption(OrderItemOption orderItemOption) {
-        this.orderItemOptions.remove(orderItemOption);
-        orderItemOption.setOrderItem(null);
-        calculateItemPrice();
+        if (this.orderItemOptions.remove(orderItemOption)) {
+            orderItemOption.setOrderItem(null);
+            applyOptionCostDelta(-orderItemOption.calculateExtraCost());
+        }
     }
-}
 
+    /**
+     * 옵션 추가 비용 변화량을 단가에 반영하고 주문 총액에 전달
+     */
+    void applyOptionCostDelta(int delta) {
+        if (delta == 0) {
+            return;
+        }
+        this.price += delta;
+        refreshItemTotalPrice();
+    }
 
+    private void refreshItemTotalPrice() {
+        int previous = this.itemTotalPrice;
+        this.itemTotalPrice = this.quantity == null ? 0 : this.price * this.quantity;
+        if (this.order != null) {
+            this.order.applyItemTotalDelta(this.itemTotalPrice - previous);
+        }
+    }
+
+    /**
+     * 누적 단가/합계를 옵션 목록으로 다시 계산해 검증 (옵션이 로딩된 경우만)
+     */
+    void verifyItemPrice() {
+        if (!Hibernate.isInitialized(this.orderItemOptions)) {
+            return;
+        }
+        int expectedPrice = this.menuPrice + this.styleExtraPrice;
+        for (OrderItemOption option : this.orderItemOptions) {
+            expectedPrice += option.calculateExtraCost();
+        }
+        if (expectedPrice != this.price || expectedPrice * this.quantity != this.itemTotalPrice) {
+            throw new IllegalStateException("주문 항목 금액이 옵션 합계와 일치하지 않습니다: " + this.menuName);
+        }
+    }
+}
@@ -1,6 +1,6 @@
 package com.dinnervery.entity;
 
-import com.dinnervery.common.BaseEntity;
+import com.dinnervery.common.PooledIdEntity;
 
 import jakarta.persistence.*;
 import org.hibernate.annotations.BatchSize;
@@ -14,7 +14,7 @@ import lombok.NoArgsConstructor;
 @BatchSize(size = 50)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class OrderItemOption extends BaseEntity {
+public class OrderItemOption extends PooledIdEntity {
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "order_item_id", nullable = false)
@@ -35,11 +35,15 @@ public class OrderItemOption extends BaseEntity {
     @Column(name = "quantity", nullable = false)
     private Integer quantity;
 
-    @Column(name = "storage_consumption", nullable = false)
-    private int storageConsumption = 1;
+    /**
+     * 옵션 1개가 소비하는 재료별 수량 (재고 이름 -> 수량 JSON), 담을 때의 레시피를 고정해 둠
+     * 이 컬럼이 생기기 전에 저장된 행은 null이며, 조리 완료 시 현재 레시피 테이블로 대신 조회함
+     */
+    @Column(name = "storage_recipe", length = 1000)
+    private String storageRecipe;
 
     @Builder
-    public OrderItemOption(Long optionId, String optionName, int optionPrice, int defaultQty, Integer quantity, Integer storageConsumption) {
+    public OrderItemOption(Long optionId, String optionName, int optionPrice, int defaultQty, Integer quantity, String storageRecipe) {
         if (quantity != null && quantity < 1) {
             throw new IllegalArgumentException("수량은 1 이상이어야 합니다.");
         }
@@ -48,23 +52,24 @@ public class OrderItemOption extends BaseEntity {
         this.optionPrice = optionPrice;
         this.defaultQty = defaultQty;
         this.quantity = quantity;
-        this.storageConsumption = storageConsumption != null ? storageConsumption : 1;
+        this.storageRecipe = storageRecipe;
     }
 
-    public void setOrderItem(OrderItem orderItem) {
+    /**
+     * 연관관계만 설정 (목록 추가와 금액 반영은 OrderItem.addOrderItemOption에서)
+     */
+    void setOrderItem(OrderItem orderItem) {
         this.orderItem = orderItem;
-        if (orderItem != null && !orderItem.getOrderItemOptions().contains(this)) {
-            orderItem.addOrderItemOption(this);
-        }
     }
 
     public void updateQuantity(Integer newQuantity) {
         if (newQuantity == null || newQuantity < 1) {
             throw new IllegalArgumentException("수량은 1 이상이어야 합니다.");
         }
+        int previousExtraCost = calculateExtraCost();
         this.quantity = newQuantity;
         if (this.orderItem != null) {
-            this.orderItem.calculateItemPrice();
+            this.orderItem.applyOptionCostDelta(calculateExtraCost() - previousExtraCost);
         }
     }
     
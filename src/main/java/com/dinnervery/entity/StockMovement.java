@@ -0,0 +1,46 @@
+package com.dinnervery.entity;
+
+import com.dinnervery.common.BaseEntity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 재고 변동 원장 (추가만 하고 수정하지 않음)
+ * 아직 storages 잔량에 반영되지 않은 변동은 applied = false
+ */
+@Entity
+@Table(name = "stock_movements", indexes = @Index(name = "idx_stock_movements_applied", columnList = "applied, id"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StockMovement extends BaseEntity {
+
+	@Column(name = "order_id")
+	private Long orderId;
+
+	@Column(name = "storage_name", nullable = false)
+	private String storageName;
+
+	@Column(name = "delta", nullable = false)
+	private int delta;
+
+	@Column(name = "applied", nullable = false)
+	private boolean applied = false;
+
+	/**
+	 * 차감 당시의 재고 초기화 회차 (storages의 회차와 다르면 반영하지 않음)
+	 */
+	@Column(name = "epoch", nullable = false)
+	private long epoch;
+
+	@Builder
+	public StockMovement(Long orderId, String storageName, int delta, long epoch) {
+		this.orderId = orderId;
+		this.storageName = storageName;
+		this.delta = delta;
+		this.epoch = epoch;
+	}
+}
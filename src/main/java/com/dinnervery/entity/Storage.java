@@ -20,6 +20,12 @@ public class Storage extends BaseEntity {
 	@Column(name = "quantity", nullable = false)
 	private int quantity;
 
+	/**
+	 * 잔량의 기준이 되는 재고 초기화 회차 (이전 회차의 미반영 원장 변동은 잔량에 반영하지 않음)
+	 */
+	@Column(name = "stock_epoch", nullable = false)
+	private long stockEpoch;
+
 	@Builder
 	public Storage(String name, int quantity) {
 		this.name = name;
@@ -29,6 +35,11 @@ public class Storage extends BaseEntity {
 	public void setQuantity(int quantity) {
 		this.quantity = quantity;
 	}
+
+	public void reset(int quantity, long stockEpoch) {
+		this.quantity = quantity;
+		this.stockEpoch = stockEpoch;
+	}
 }
 
 
@@ -0,0 +1,37 @@
+package com.dinnervery.event;
+
+import com.dinnervery.entity.Order;
+import lombok.Value;
+
+/**
+ * 주문 생성/상태 변경 이벤트
+ * 트랜잭션 커밋 이후에 현황판 구독자에게 전달됨
+ */
+@Value
+public class OrderBoardEvent {
+    Type type;
+    Order.Status previousStatus;
+    OrderSnapshot order;
+
+    public static OrderBoardEvent created(OrderSnapshot order) {
+        return new OrderBoardEvent(Type.CREATED, null, order);
+    }
+
+    public static OrderBoardEvent statusChanged(Order.Status previousStatus, OrderSnapshot order) {
+        return new OrderBoardEvent(Type.STATUS_CHANGED, previousStatus, order);
+    }
+
+    /**
+     * 이벤트 전후 상태 중 하나라도 주어진 상태에 속하면 해당 현황판에 영향을 줌
+     */
+    public boolean touches(Order.Status first, Order.Status second) {
+        Order.Status current = order.getStatus();
+        return current == first || current == second
+                || previousStatus == first || previousStatus == second;
+    }
+
+    public enum Type {
+        CREATED,        // 주문 생성
+        STATUS_CHANGED  // 주문 상태 변경
+    }
+}
@@ -0,0 +1,108 @@
+package com.dinnervery.event;
+
+import com.dinnervery.dto.order.response.DeliveryOrderListResponse;
+import com.dinnervery.dto.order.response.OrderListResponse;
+import com.dinnervery.entity.Order;
+import com.dinnervery.entity.OrderItem;
+import com.dinnervery.entity.OrderItemOption;
+import lombok.Value;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 현황판에 필요한 주문 정보만 담은 불변 스냅샷
+ * 트랜잭션 안에서 만들어 커밋 이후에도 엔티티 없이 사용
+ */
+@Value
+public class OrderSnapshot {
+    Long orderId;
+    Order.Status status;
+    LocalTime deliveryTime;
+    String address;
+    List<Item> items;
+
+    @Value
+    public static class Item {
+        Long menuId;
+        String menuName;
+        int quantity;
+        Long styleId;
+        String styleName;
+        List<Option> options;
+    }
+
+    @Value
+    public static class Option {
+        Long optionId;
+        String optionName;
+        int quantity;
+    }
+
+    public static OrderSnapshot from(Order order) {
+        List<Item> items = new ArrayList<>(order.getOrderItems().size());
+        for (OrderItem orderItem : order.getOrderItems()) {
+            List<Option> options = new ArrayList<>(orderItem.getOrderItemOptions().size());
+            for (OrderItemOption option : orderItem.getOrderItemOptions()) {
+                options.add(new Option(option.getOptionId(), option.getOptionName(), option.getQuantity()));
+            }
+            items.add(new Item(
+                    orderItem.getMenuId(),
+                    orderItem.getMenuName(),
+                    orderItem.getQuantity(),
+                    orderItem.getStyleId(),
+                    orderItem.getStyleName(),
+                    List.copyOf(options)
+            ));
+        }
+        return new OrderSnapshot(
+                order.getId(),
+                order.getDeliveryStatus(),
+                order.getDeliveryTime(),
+                order.getAddress(),
+                List.copyOf(items)
+        );
+    }
+
+    public OrderListResponse.OrderSummary toCookingSummary() {
+        List<OrderListResponse.OrderSummary.OrderedItem> orderItems = new ArrayList<>(items.size());
+        for (Item item : items) {
+            List<OrderListResponse.OrderSummary.OptionSummaryDto> optionList = new ArrayList<>(item.getOptions().size());
+            for (Option option : item.getOptions()) {
+                optionList.add(new OrderListResponse.OrderSummary.OptionSummaryDto(
+                        option.getOptionId(), option.getOptionName(), option.getQuantity()));
+            }
+            orderItems.add(new OrderListResponse.OrderSummary.OrderedItem(
+                    item.getMenuId(), item.getMenuName(), item.getQuantity(),
+                    item.getStyleId(), item.getStyleName(), optionList));
+        }
+        return new OrderListResponse.OrderSummary(
+                orderId,
+                status.toString(),
+                deliveryTime != null ? deliveryTime.toString() : "",
+                orderItems
+        );
+    }
+
+    public DeliveryOrderListResponse.OrderSummary toDeliverySummary() {
+        List<DeliveryOrderListResponse.OrderSummary.OrderItem> orderItems = new ArrayList<>(items.size());
+        for (Item item : items) {
+            List<DeliveryOrderListResponse.OrderSummary.OptionSummaryDto> optionList = new ArrayList<>(item.getOptions().size());
+            for (Option option : item.getOptions()) {
+                optionList.add(new DeliveryOrderListResponse.OrderSummary.OptionSummaryDto(
+                        option.getOptionId(), option.getOptionName(), option.getQuantity()));
+            }
+            orderItems.add(new DeliveryOrderListResponse.OrderSummary.OrderItem(
+                    item.getMenuId(), item.getMenuName(), item.getQuantity(),
+                    item.getStyleId(), item.getStyleName(), optionList));
+        }
+        return new DeliveryOrderListResponse.OrderSummary(
+                orderId,
+                status.toString(),
+                deliveryTime.toString(),
+                address,
+                orderItems
+        );
+    }
+}
@@ -1,6 +1,9 @@
 package com.dinnervery.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.dinnervery.entity.CartItemOption;
 
@@ -8,6 +11,13 @@ import java.util.Optional;
 
 public interface CartItemOptionRepository extends JpaRepository<CartItemOption, Long> {
 	Optional<CartItemOption> findByCartItem_IdAndOptionId(Long cartItemId, Long optionId);
-}
-
 
+	/**
+	 * 장바구니의 모든 아이템 옵션을 한 문장으로 삭제
+	 * 앞서 쌓인 변경(주문 INSERT 등)을 먼저 flush
+	 */
+	@Modifying(flushAutomatically = true)
+	@Query("DELETE FROM CartItemOption o WHERE o.cartItem.id IN " +
+	       "(SELECT i.id FROM CartItem i WHERE i.cart.id = :cartId)")
+	int deleteAllByCartId(@Param("cartId") Long cartId);
+}
@@ -1,6 +1,9 @@
 package com.dinnervery.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.dinnervery.entity.CartItem;
 
@@ -9,6 +12,11 @@ import java.util.List;
 public interface CartItemRepository extends JpaRepository<CartItem, Long> {
     List<CartItem> findByCart_Id(Long cartId);
     List<CartItem> findByCart_IdAndMenuId(Long cartId, Long menuId);
-}
-
 
+    /**
+     * 장바구니의 모든 아이템을 한 문장으로 삭제 (옵션을 먼저 삭제해야 함)
+     */
+    @Modifying
+    @Query("DELETE FROM CartItem i WHERE i.cart.id = :cartId")
+    int deleteAllByCartId(@Param("cartId") Long cartId);
+}
@@ -1,6 +1,10 @@
 package com.dinnervery.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.dinnervery.entity.Cart;
 
@@ -8,6 +12,21 @@ import java.util.Optional;
 
 public interface CartRepository extends JpaRepository<Cart, Long> {
     Optional<Cart> findByCustomer_Id(Long customerId);
-}
 
+    /**
+     * 장바구니 행을 한 문장으로 삭제하고 영속성 컨텍스트를 비움
+     * (아이템/옵션을 먼저 삭제해야 함)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM Cart c WHERE c.id = :cartId")
+    int deleteByIdInBulk(@Param("cartId") Long cartId);
 
+    /**
+     * 저장된 총액을 아이템 합계로 일괄 보정 (이전 버전은 옵션 수량 변경 시 총액을 갱신하지 않았음)
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Cart c SET c.totalAmount = COALESCE((SELECT SUM(i.itemTotalPrice) FROM CartItem i WHERE i.cart = c), 0) "
+            + "WHERE c.totalAmount <> COALESCE((SELECT SUM(i.itemTotalPrice) FROM CartItem i WHERE i.cart = c), 0)")
+    int recalculateTotalAmounts();
+}
@@ -0,0 +1,7 @@
+package com.dinnervery.repository;
+
+import com.dinnervery.entity.DataMigration;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface DataMigrationRepository extends JpaRepository<DataMigration, String> {
+}
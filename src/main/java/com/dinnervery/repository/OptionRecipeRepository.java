@@ -0,0 +1,8 @@
+package com.dinnervery.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.dinnervery.entity.OptionRecipe;
+
+public interface OptionRecipeRepository extends JpaRepository<OptionRecipe, Long> {
+}
@@ -0,0 +1,17 @@
+package com.dinnervery.repository;
+
+import com.dinnervery.dto.order.query.OrderHistoryRow;
+
+import java.util.stream.Stream;
+
+/**
+ * 고객 주문 내역 스트림 조회 (이 조회에만 DB 커서/스트리밍 fetch size를 적용하기 위해 분리)
+ */
+public interface OrderHistoryStreamRepository {
+
+    /**
+     * 고객 주문 내역을 평면 행 스트림으로 조회 (최신 주문부터, 주문/아이템 단위로 연속된 행)
+     * 스트림은 트랜잭션 안에서 사용하고 반드시 닫아야 함
+     */
+    Stream<OrderHistoryRow> streamHistoryRowsByCustomerId(Long customerId);
+}
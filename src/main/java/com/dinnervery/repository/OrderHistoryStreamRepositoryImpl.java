@@ -0,0 +1,45 @@
+package com.dinnervery.repository;
+
+import com.dinnervery.dto.order.query.OrderHistoryRow;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+
+import java.util.stream.Stream;
+
+/**
+ * fetch size는 orders.history.stream-fetch-size 설정을 따름
+ * MySQL(Connector/J)은 Integer.MIN_VALUE일 때 이 문장만 행 단위로 스트리밍하므로
+ * 드라이버 전역 useCursorFetch 없이 다른 조회의 fetch 동작은 바뀌지 않음
+ */
+class OrderHistoryStreamRepositoryImpl implements OrderHistoryStreamRepository {
+
+    private static final String HISTORY_ROWS_BY_CUSTOMER =
+            "SELECT new com.dinnervery.dto.order.query.OrderHistoryRow(" +
+            "o.id, o.createdAt, o.totalPrice, o.deliveryStatus, o.deliveryTime, " +
+            "i.id, i.menuName, i.quantity, i.styleName, " +
+            "opt.optionName, opt.quantity) " +
+            "FROM Order o " +
+            "JOIN o.orderItems i " +
+            "LEFT JOIN i.orderItemOptions opt " +
+            "WHERE o.customer.id = :customerId " +
+            "ORDER BY o.createdAt DESC, o.id DESC, i.id, opt.id";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final int fetchSize;
+
+    OrderHistoryStreamRepositoryImpl(@Value("${orders.history.stream-fetch-size:100}") int fetchSize) {
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public Stream<OrderHistoryRow> streamHistoryRowsByCustomerId(Long customerId) {
+        return entityManager.createQuery(HISTORY_ROWS_BY_CUSTOMER, OrderHistoryRow.class)
+                .setParameter("customerId", customerId)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .getResultStream();
+    }
+}
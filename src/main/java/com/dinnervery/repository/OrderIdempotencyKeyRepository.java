@@ -0,0 +1,11 @@
+package com.dinnervery.repository;
+
+import com.dinnervery.entity.OrderIdempotencyKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface OrderIdempotencyKeyRepository extends JpaRepository<OrderIdempotencyKey, Long> {
+
+    Optional<OrderIdempotencyKey> findByCustomerIdAndIdempotencyKey(Long customerId, String idempotencyKey);
+}
@@ -1,14 +1,19 @@
 package com.dinnervery.repository;
 
+import com.dinnervery.dto.order.query.OrderBoardRow;
+import com.dinnervery.dto.order.query.OrderHistoryRow;
+import com.dinnervery.dto.order.query.OrderPageKey;
 import com.dinnervery.entity.Order;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
-public interface OrderRepository extends JpaRepository<Order, Long> {
+public interface OrderRepository extends JpaRepository<Order, Long>, OrderHistoryStreamRepository {
 
     List<Order> findByCustomer_Id(Long customerId);
     
@@ -18,12 +23,6 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
            "WHERE o.id = :orderId")
     Optional<Order> findByIdWithDetails(@Param("orderId") Long orderId);
     
-    @Query("SELECT DISTINCT o FROM Order o " +
-           "JOIN FETCH o.customer " +
-           "JOIN FETCH o.orderItems " +
-           "WHERE o.customer.id = :customerId ORDER BY o.createdAt DESC")
-    List<Order> findByCustomerIdWithDetails(@Param("customerId") Long customerId);
-    
     List<Order> findByDeliveryStatusIn(List<Order.Status> statuses);
     
     @Query("SELECT DISTINCT o FROM Order o " +
@@ -31,4 +30,54 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
            "JOIN FETCH o.orderItems " +
            "WHERE o.deliveryStatus IN :statuses")
     List<Order> findByDeliveryStatusInWithDetails(@Param("statuses") List<Order.Status> statuses);
+
+    /**
+     * 현황판 화면에 필요한 컬럼만 평면 행으로 조회 (엔티티 로딩, 고객 조인 없음)
+     */
+    @Query("SELECT new com.dinnervery.dto.order.query.OrderBoardRow(" +
+           "o.id, o.deliveryStatus, o.deliveryTime, " +
+           "i.id, i.menuId, i.menuName, i.quantity, i.styleId, i.styleName, " +
+           "opt.optionId, opt.optionName, opt.quantity) " +
+           "FROM Order o " +
+           "JOIN o.orderItems i " +
+           "LEFT JOIN i.orderItemOptions opt " +
+           "WHERE o.deliveryStatus IN :statuses " +
+           "ORDER BY o.id, i.id, opt.id")
+    List<OrderBoardRow> findBoardRowsByDeliveryStatusIn(@Param("statuses") List<Order.Status> statuses);
+
+    /**
+     * 주문 내역 첫 페이지의 주문 키 (idx_orders_customer_created_id 인덱스 범위 스캔)
+     */
+    @Query("SELECT new com.dinnervery.dto.order.query.OrderPageKey(o.id, o.createdAt) " +
+           "FROM Order o " +
+           "WHERE o.customer.id = :customerId " +
+           "ORDER BY o.createdAt DESC, o.id DESC")
+    List<OrderPageKey> findPageKeysByCustomerId(@Param("customerId") Long customerId, Limit limit);
+
+    /**
+     * 커서(created_at, id) 다음 페이지의 주문 키
+     */
+    @Query("SELECT new com.dinnervery.dto.order.query.OrderPageKey(o.id, o.createdAt) " +
+           "FROM Order o " +
+           "WHERE o.customer.id = :customerId " +
+           "AND (o.createdAt < :createdAt OR (o.createdAt = :createdAt AND o.id < :orderId)) " +
+           "ORDER BY o.createdAt DESC, o.id DESC")
+    List<OrderPageKey> findPageKeysByCustomerIdAfter(@Param("customerId") Long customerId,
+                                                    @Param("createdAt") LocalDateTime createdAt,
+                                                    @Param("orderId") Long orderId,
+                                                    Limit limit);
+
+    /**
+     * 한 페이지 주문들의 아이템/옵션을 평면 행으로 한 번에 조회
+     */
+    @Query("SELECT new com.dinnervery.dto.order.query.OrderHistoryRow(" +
+           "o.id, o.createdAt, o.totalPrice, o.deliveryStatus, o.deliveryTime, " +
+           "i.id, i.menuName, i.quantity, i.styleName, " +
+           "opt.optionName, opt.quantity) " +
+           "FROM Order o " +
+           "JOIN o.orderItems i " +
+           "LEFT JOIN i.orderItemOptions opt " +
+           "WHERE o.id IN :orderIds " +
+           "ORDER BY o.createdAt DESC, o.id DESC, i.id, opt.id")
+    List<OrderHistoryRow> findHistoryRowsByOrderIdIn(@Param("orderIds") List<Long> orderIds);
 }
@@ -0,0 +1,47 @@
+package com.dinnervery.repository;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.dinnervery.entity.StockMovement;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface StockMovementRepository extends JpaRepository<StockMovement, Long> {
+
+	/**
+	 * 잔량에 아직 반영되지 않은 변동을 오래된 순으로 잠그고 가져옴
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	List<StockMovement> findTop500ByAppliedFalseOrderByIdAsc();
+
+	/**
+	 * 해당 회차에서 반영되지 않은 변동의 재고별 합계 [storageName, sum(delta)]
+	 */
+	@Query("SELECT m.storageName, SUM(m.delta) FROM StockMovement m " +
+	       "WHERE m.applied = false AND m.epoch = :epoch GROUP BY m.storageName")
+	List<Object[]> sumPendingDeltas(@Param("epoch") long epoch);
+
+	/**
+	 * 해당 회차에서 반영되지 않은 한 재고의 변동 합계
+	 */
+	@Query("SELECT COALESCE(SUM(m.delta), 0) FROM StockMovement m " +
+	       "WHERE m.applied = false AND m.epoch = :epoch AND m.storageName = :name")
+	long sumPendingDelta(@Param("name") String name, @Param("epoch") long epoch);
+
+	@Modifying
+	@Query("UPDATE StockMovement m SET m.applied = true WHERE m.id IN :ids")
+	int markApplied(@Param("ids") Collection<Long> ids);
+
+	/**
+	 * 반영 대기 중인 변동을 잔량에 더하지 않고 처리 완료로 표시 (일일 재고 초기화용)
+	 */
+	@Modifying
+	@Query("UPDATE StockMovement m SET m.applied = true WHERE m.applied = false")
+	int discardPending();
+}
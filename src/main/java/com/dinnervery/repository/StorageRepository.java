@@ -1,6 +1,9 @@
 package com.dinnervery.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.dinnervery.entity.Storage;
 
@@ -8,6 +11,17 @@ import java.util.Optional;
 
 public interface StorageRepository extends JpaRepository<Storage, Long> {
 	Optional<Storage> findByName(String name);
-}
 
+	/**
+	 * 재고 잔량에 변동량을 원자적으로 더함
+	 */
+	@Modifying
+	@Query("UPDATE Storage s SET s.quantity = s.quantity + :delta WHERE s.name = :name")
+	int adjustQuantity(@Param("name") String name, @Param("delta") int delta);
 
+	/**
+	 * 현재 재고 초기화 회차 (재고가 없으면 0)
+	 */
+	@Query("SELECT COALESCE(MAX(s.stockEpoch), 0) FROM Storage s")
+	long findCurrentStockEpoch();
+}
@@ -0,0 +1,16 @@
+package com.dinnervery.security;
+
+import lombok.Value;
+
+import java.time.Instant;
+
+/**
+ * 서명 검증이 끝난 JWT에서 꺼낸 인증 정보
+ */
+@Value
+public class JwtPrincipal {
+    Long userId;
+    String loginId;
+    String role;
+    Instant expiresAt;
+}
@@ -1,26 +1,57 @@
 package com.dinnervery.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class JwtProvider {
 
     private final SecretKey secretKey;
+    private final JwtParser jwtParser;
     private final long tokenValidityInMilliseconds;
+    private final Cache<String, JwtPrincipal> principalCache;
 
     public JwtProvider(
             @Value("${jwt.secret:dinnervery-secret-key-for-jwt-token-generation-minimum-256-bits-long}") String secret,
-            @Value("${jwt.expiration:86400000}") long tokenValidityInMilliseconds) {
+            @Value("${jwt.expiration:86400000}") long tokenValidityInMilliseconds,
+            @Value("${jwt.cache.max-size:10000}") long cacheMaxSize,
+            MeterRegistry meterRegistry) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        // 파서는 불변이고 스레드 안전하므로 한 번만 만들어 재사용
+        this.jwtParser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
         this.tokenValidityInMilliseconds = tokenValidityInMilliseconds;
+        // 검증이 끝난 토큰은 만료 시각까지만 캐시 (크기 초과 시 W-TinyLFU 정책으로 제거)
+        this.principalCache = CaffeineCacheMetrics.monitor(
+                meterRegistry,
+                Caffeine.newBuilder()
+                        .maximumSize(cacheMaxSize)
+                        .expireAfter(new TokenExpiry())
+                        .ticker(TokenExpiry.WALL_CLOCK)
+                        .recordStats()
+                        .<String, JwtPrincipal>build(),
+                "jwt.principal"
+        );
     }
 
     public String generateToken(Long customerId, String loginId, String role) {
@@ -37,36 +68,77 @@ public class JwtProvider {
                 .compact();
     }
 
-    public Long getUserIdFromToken(String token) {
-        Claims claims = getClaimsFromToken(token);
-        return Long.parseLong(claims.getSubject());
-    }
-
-    public String getLoginIdFromToken(String token) {
-        Claims claims = getClaimsFromToken(token);
-        return claims.get("loginId", String.class);
-    }
+    /**
+     * 토큰 서명을 한 번만 검증하고 인증에 필요한 정보를 모두 꺼냄
+     * 이미 검증한 토큰이면 캐시에서 바로 반환하고, 유효하지 않은 토큰이면 빈 값을 반환
+     */
+    public Optional<JwtPrincipal> parseToken(String token) {
+        String cacheKey = digest(token);
+        JwtPrincipal cached = principalCache.getIfPresent(cacheKey);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
 
-    public String getRoleFromToken(String token) {
-        Claims claims = getClaimsFromToken(token);
-        return claims.get("role", String.class);
+        Optional<JwtPrincipal> principal = verifyToken(token);
+        principal.ifPresent(p -> principalCache.put(cacheKey, p));
+        return principal;
     }
 
-    public boolean validateToken(String token) {
+    private Optional<JwtPrincipal> verifyToken(String token) {
         try {
-            getClaimsFromToken(token);
-            return true;
+            Claims claims = getClaimsFromToken(token);
+            return Optional.of(new JwtPrincipal(
+                    Long.parseLong(claims.getSubject()),
+                    claims.get("loginId", String.class),
+                    claims.get("role", String.class),
+                    claims.getExpiration().toInstant()
+            ));
         } catch (Exception e) {
-            return false;
+            return Optional.empty();
         }
     }
 
     private Claims getClaimsFromToken(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
+        return jwtParser
                 .parseSignedClaims(token)
                 .getPayload();
     }
-}
 
+    /**
+     * 토큰 원문 대신 SHA-256 다이제스트를 캐시 키로 사용
+     */
+    private String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 캐시 항목을 토큰의 exp 시각에 만료시킴
+     * exp가 벽시계 시각이므로 캐시 시계(currentTime)도 벽시계 기준 나노초를 쓰도록 WALL_CLOCK 티커와 함께 사용
+     */
+    private static class TokenExpiry implements Expiry<String, JwtPrincipal> {
+
+        static final Ticker WALL_CLOCK = () -> TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis());
+
+        @Override
+        public long expireAfterCreate(String key, JwtPrincipal principal, long currentTime) {
+            long expiresAtNanos = TimeUnit.MILLISECONDS.toNanos(principal.getExpiresAt().toEpochMilli());
+            return Math.max(0, expiresAtNanos - currentTime);
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, JwtPrincipal principal, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, principal, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, JwtPrincipal principal, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.dinnervery.service;
+
+import com.dinnervery.entity.Order;
+import com.dinnervery.event.OrderBoardEvent;
+import com.dinnervery.event.OrderSnapshot;
+import com.dinnervery.repository.OrderRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 진행 중(REQUESTED ~ DELIVERING)인 주문의 메모리 인덱스
+ * 상태별로 주문 스냅샷을 보관하며, 커밋 이후 이벤트로 갱신되고 DONE이 되면 제거됨
+ */
+@Slf4j
+@Service
+public class ActiveOrderIndex {
+
+    private static final List<Order.Status> ACTIVE_STATUSES = List.of(
+            Order.Status.REQUESTED,
+            Order.Status.COOKING,
+            Order.Status.COOKED,
+            Order.Status.DELIVERING
+    );
+
+    /**
+     * 완료된 주문 ID를 기억하는 시간 (커밋 이후 이벤트가 늦게 도착할 수 있는 시간보다 충분히 길게)
+     */
+    private static final Duration COMPLETED_RETENTION = Duration.ofMinutes(10);
+
+    private final OrderRepository orderRepository;
+    private final Map<Order.Status, ConcurrentSkipListMap<Long, OrderSnapshot>> ordersByStatus = new EnumMap<>(Order.Status.class);
+    private final ConcurrentHashMap<Long, Order.Status> statusByOrderId = new ConcurrentHashMap<>();
+    private final Cache<Long, Boolean> completedOrderIds = Caffeine.newBuilder()
+            .expireAfterWrite(COMPLETED_RETENTION)
+            .build();
+
+    /**
+     * 조회할 때마다 DB 결과와 비교하는 검증 모드 (테스트용)
+     */
+    @Getter
+    private final boolean verifyEnabled;
+
+    public ActiveOrderIndex(
+            OrderRepository orderRepository,
+            @Value("${orders.active-index.verify:false}") boolean verifyEnabled) {
+        this.orderRepository = orderRepository;
+        this.verifyEnabled = verifyEnabled;
+        for (Order.Status status : ACTIVE_STATUSES) {
+            ordersByStatus.put(status, new ConcurrentSkipListMap<>());
+        }
+    }
+
+    /**
+     * 애플리케이션 시작 시 DB에서 진행 중인 주문을 읽어 인덱스를 재구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        // 먼저 비우고 조회해야 조회 이후 반영된 이벤트가 지워지지 않음 (조회 결과가 더 오래된 상태면 apply에서 무시)
+        statusByOrderId.clear();
+        ordersByStatus.values().forEach(Map::clear);
+
+        List<Order> orders = orderRepository.findByDeliveryStatusIn(ACTIVE_STATUSES);
+        for (Order order : orders) {
+            apply(OrderSnapshot.from(order));
+        }
+        log.info("진행 중인 주문 인덱스 재구성 완료: {}건", orders.size());
+    }
+
+    @TransactionalEventListener
+    public void onOrderBoardEvent(OrderBoardEvent event) {
+        apply(event.getOrder());
+    }
+
+    /**
+     * 주어진 상태들의 주문을 주문 ID 순으로 반환
+     */
+    public List<OrderSnapshot> find(Order.Status... statuses) {
+        List<OrderSnapshot> result = new ArrayList<>();
+        for (Order.Status status : statuses) {
+            ConcurrentSkipListMap<Long, OrderSnapshot> orders = ordersByStatus.get(status);
+            if (orders != null) {
+                result.addAll(orders.values());
+            }
+        }
+        if (statuses.length > 1) {
+            result.sort(Comparator.comparing(OrderSnapshot::getOrderId));
+        }
+        return result;
+    }
+
+    /**
+     * 주문 상태는 REQUESTED -> DONE 방향으로만 진행하므로 상태 순서를 버전으로 사용
+     * 여러 트랜잭션의 커밋 이후 이벤트가 순서와 다르게 도착해도 더 오래된 상태가 새 상태를 덮지 않음
+     */
+    private void apply(OrderSnapshot order) {
+        // 주문 단위로 원자적으로 이전 상태에서 제거하고 새 상태에 등록
+        statusByOrderId.compute(order.getOrderId(), (orderId, previousStatus) -> {
+            if (completedOrderIds.getIfPresent(orderId) != null) {
+                return null; // 이미 완료된 주문의 늦게 도착한 이벤트
+            }
+            if (previousStatus != null) {
+                if (previousStatus.compareTo(order.getStatus()) > 0) {
+                    return previousStatus;
+                }
+                ordersByStatus.get(previousStatus).remove(orderId);
+            }
+            ConcurrentSkipListMap<Long, OrderSnapshot> target = ordersByStatus.get(order.getStatus());
+            if (target == null) {
+                // DONE 등 진행 중이 아닌 상태는 인덱스에서 제거하고, 늦은 이벤트가 다시 등록하지 않도록 잠시 기억
+                completedOrderIds.put(orderId, Boolean.TRUE);
+                return null;
+            }
+            target.put(orderId, order);
+            return order.getStatus();
+        });
+    }
+}
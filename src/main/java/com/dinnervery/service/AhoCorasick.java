@@ -0,0 +1,121 @@
+package com.dinnervery.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * 여러 키워드를 한 번의 순회로 찾는 Aho-Corasick 매처 (생성 후 읽기 전용, 스레드 안전)
+ * @param <T> 키워드에 연결된 값
+ */
+final class AhoCorasick<T> {
+
+    private static final class Node<T> {
+        private final Map<Character, Node<T>> next = new HashMap<>();
+        private final List<Keyword<T>> outputs = new ArrayList<>();
+        private Node<T> fail;
+    }
+
+    @lombok.Value
+    private static class Keyword<T> {
+        int length;
+        T value;
+    }
+
+    /**
+     * 찾은 키워드 위치 [start, end)
+     */
+    @lombok.Value
+    static class Match<T> {
+        int start;
+        int end;
+        T value;
+
+        int length() {
+            return end - start;
+        }
+    }
+
+    private final Node<T> root = new Node<>();
+
+    AhoCorasick(Map<String, T> keywords) {
+        for (Map.Entry<String, T> keyword : keywords.entrySet()) {
+            String word = keyword.getKey();
+            if (word.isEmpty()) {
+                continue;
+            }
+            Node<T> node = root;
+            for (int i = 0; i < word.length(); i++) {
+                node = node.next.computeIfAbsent(word.charAt(i), c -> new Node<>());
+            }
+            node.outputs.add(new Keyword<>(word.length(), keyword.getValue()));
+        }
+        buildFailureLinks();
+    }
+
+    /**
+     * 겹치는 것을 포함한 모든 키워드 위치
+     */
+    List<Match<T>> findAll(String text) {
+        List<Match<T>> matches = new ArrayList<>();
+        Node<T> node = root;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            while (node != root && !node.next.containsKey(c)) {
+                node = node.fail;
+            }
+            node = node.next.getOrDefault(c, root);
+            for (Keyword<T> output : node.outputs) {
+                matches.add(new Match<>(i + 1 - output.getLength(), i + 1, output.getValue()));
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * 겹치지 않는 키워드 위치 (왼쪽부터, 같은 위치에서는 가장 긴 키워드 우선)
+     * 예: "샴페인축제디너"에서는 "샴페인"이 아니라 "샴페인축제디너"만 선택
+     */
+    List<Match<T>> findLongest(String text) {
+        List<Match<T>> all = findAll(text);
+        all.sort(Comparator.comparingInt((Match<T> m) -> m.getStart())
+                .thenComparing(Comparator.comparingInt((Match<T> m) -> m.length()).reversed()));
+
+        List<Match<T>> selected = new ArrayList<>();
+        int coveredUntil = 0;
+        for (Match<T> match : all) {
+            if (match.getStart() >= coveredUntil) {
+                selected.add(match);
+                coveredUntil = match.getEnd();
+            }
+        }
+        return selected;
+    }
+
+    private void buildFailureLinks() {
+        Queue<Node<T>> queue = new ArrayDeque<>();
+        for (Node<T> child : root.next.values()) {
+            child.fail = root;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            Node<T> node = queue.poll();
+            for (Map.Entry<Character, Node<T>> edge : node.next.entrySet()) {
+                char c = edge.getKey();
+                Node<T> child = edge.getValue();
+                Node<T> fail = node.fail;
+                while (fail != root && !fail.next.containsKey(c)) {
+                    fail = fail.fail;
+                }
+                Node<T> target = fail.next.get(c);
+                child.fail = target != null ? target : root;
+                child.outputs.addAll(child.fail.outputs);
+                queue.add(child);
+            }
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.dinnervery.service;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * AI 서비스 호출용 서킷 브레이커
+ * - CLOSED: 모든 호출 허용, 연속 실패가 failureThreshold에 도달하면 OPEN
+ * - OPEN: openDuration 동안 호출을 바로 거절
+ * - HALF_OPEN: openDuration이 지나면 시험 호출 1건만 허용하고, 성공하면 CLOSED, 실패하거나 결과를 알 수 없으면 다시 OPEN
+ */
+final class AiCircuitBreaker {
+
+    enum State {
+        CLOSED,
+        HALF_OPEN,
+        OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openNanos;
+
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private volatile long openedAtNanos;
+
+    AiCircuitBreaker(int failureThreshold, Duration openDuration) {
+        this.failureThreshold = failureThreshold;
+        this.openNanos = openDuration.toNanos();
+    }
+
+    State getState() {
+        return state.get();
+    }
+
+    /**
+     * 호출 허용 여부 (OPEN 유지 시간이 지났으면 먼저 도착한 1건만 시험 호출로 허용)
+     */
+    boolean tryAcquire() {
+        State current = state.get();
+        if (current == State.CLOSED) {
+            return true;
+        }
+        if (current == State.OPEN && System.nanoTime() - openedAtNanos >= openNanos) {
+            return state.compareAndSet(State.OPEN, State.HALF_OPEN);
+        }
+        return false;
+    }
+
+    /**
+     * 연속 실패를 초기화하고, 시험 호출(HALF_OPEN)이 성공한 경우에만 CLOSED로 전환
+     * OPEN 전에 시작한 호출이 늦게 성공해도 서킷을 닫지 않음
+     */
+    void onSuccess() {
+        consecutiveFailures.set(0);
+        state.compareAndSet(State.HALF_OPEN, State.CLOSED);
+    }
+
+    void onFailure() {
+        if (state.get() == State.HALF_OPEN || consecutiveFailures.incrementAndGet() >= failureThreshold) {
+            openedAtNanos = System.nanoTime();
+            state.set(State.OPEN);
+        }
+    }
+
+    /**
+     * 서비스 상태를 알 수 없는 결과 (취소, 커넥션 풀 대기 실패, 4xx 등)
+     * 실패 횟수와 CLOSED/OPEN 상태는 그대로 두고, 시험 호출이었다면 OPEN으로 되돌려 다음 호출이 다시 시험할 수 있게 함
+     */
+    void onCancel() {
+        state.compareAndSet(State.HALF_OPEN, State.OPEN);
+    }
+}
@@ -0,0 +1,236 @@
+package com.dinnervery.service;
+
+import com.dinnervery.config.AiFastPathProperties;
+import com.dinnervery.dto.ai.response.AiChatResponse;
+import com.dinnervery.dto.ai.response.OrderSummary;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 단순한 주문 발화("샴페인 축제 디너 디럭스로 2인분 주세요")를 AI 서비스 없이 규칙으로 해석
+ * 메뉴 1개 + 스타일 1개 + 수량으로만 이루어졌고 인식된 단어 비율이 충분할 때만 응답하며,
+ * 옵션/변경 표현이 있거나 수량으로 읽지 못한 숫자/수사가 남는 등 애매하면 빈 결과를 반환하여 AI 서비스로 넘김
+ */
+@Service
+public class AiFastPath {
+
+    /**
+     * 한국어 수사/숫자 + 단위 (예: 2개, 두 개, 세 세트, 이인분)
+     */
+    private static final Pattern QUANTITY = Pattern.compile(
+            "(\\d{1,2}|하나|한|둘|두|셋|세|넷|네|다섯|여섯|일곱|여덟|아홉|열)(개|인분|세트|접시)"
+                    + "|(일|이|삼|사|오|육|칠|팔|구|십)인분");
+
+    private static final Map<String, Integer> NUMERALS = Map.ofEntries(
+            Map.entry("하나", 1), Map.entry("한", 1), Map.entry("일", 1),
+            Map.entry("둘", 2), Map.entry("두", 2), Map.entry("이", 2),
+            Map.entry("셋", 3), Map.entry("세", 3), Map.entry("삼", 3),
+            Map.entry("넷", 4), Map.entry("네", 4), Map.entry("사", 4),
+            Map.entry("다섯", 5), Map.entry("오", 5),
+            Map.entry("여섯", 6), Map.entry("육", 6),
+            Map.entry("일곱", 7), Map.entry("칠", 7),
+            Map.entry("여덟", 8), Map.entry("팔", 8),
+            Map.entry("아홉", 9), Map.entry("구", 9),
+            Map.entry("열", 10), Map.entry("십", 10));
+
+    private enum Kind {
+        MENU,
+        STYLE,
+        OPTION,
+        FALLBACK,
+        FILLER
+    }
+
+    @lombok.Value
+    private static class Term {
+        Kind kind;
+        AiFastPathProperties.Entry entry;
+    }
+
+    private final AiFastPathProperties properties;
+    private final AhoCorasick<Term> matcher;
+
+    private final Counter hitCounter;
+    private final Counter fallbackCounter;
+    private final Timer parseTimer;
+
+    public AiFastPath(AiFastPathProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+
+        Map<String, Term> keywords = new HashMap<>();
+        for (String word : properties.getFillerWords()) {
+            keywords.put(compact(word), new Term(Kind.FILLER, null));
+        }
+        for (AiFastPathProperties.Entry style : properties.getStyles()) {
+            putEntry(keywords, Kind.STYLE, style);
+        }
+        for (String word : properties.getOptionWords()) {
+            keywords.put(compact(word), new Term(Kind.OPTION, null));
+        }
+        for (AiFastPathProperties.Entry menu : properties.getMenus()) {
+            putEntry(keywords, Kind.MENU, menu);
+        }
+        for (String word : properties.getFallbackWords()) {
+            keywords.put(compact(word), new Term(Kind.FALLBACK, null));
+        }
+        this.matcher = new AhoCorasick<>(keywords);
+
+        this.hitCounter = requestCounter(meterRegistry, "hit");
+        this.fallbackCounter = requestCounter(meterRegistry, "fallback");
+        this.parseTimer = Timer.builder("ai.fast-path.parse")
+                .description("규칙 기반 주문 해석 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * @return 규칙으로 확실히 해석되면 AI 서비스 응답과 같은 형태의 응답, 아니면 빈 값
+     */
+    public Optional<AiChatResponse> parse(String text) {
+        long startNanos = System.nanoTime();
+        Optional<AiChatResponse> result = tryParse(compact(text));
+        parseTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        (result.isPresent() ? hitCounter : fallbackCounter).increment();
+        return result;
+    }
+
+    private Optional<AiChatResponse> tryParse(String text) {
+        if (text.isEmpty()) {
+            return Optional.empty();
+        }
+
+        BitSet covered = new BitSet(text.length());
+        Set<AiFastPathProperties.Entry> menus = new LinkedHashSet<>();
+        Set<AiFastPathProperties.Entry> styles = new LinkedHashSet<>();
+        for (AhoCorasick.Match<Term> match : matcher.findLongest(text)) {
+            Term term = match.getValue();
+            switch (term.getKind()) {
+                case OPTION, FALLBACK -> {
+                    return Optional.empty();
+                }
+                case MENU -> menus.add(term.getEntry());
+                case STYLE -> styles.add(term.getEntry());
+                case FILLER -> {
+                }
+            }
+            covered.set(match.getStart(), match.getEnd());
+        }
+        if (menus.size() != 1 || styles.size() != 1) {
+            return Optional.empty();
+        }
+
+        int quantity = 1;
+        Matcher quantityMatcher = QUANTITY.matcher(text);
+        if (quantityMatcher.find()) {
+            quantity = toQuantity(quantityMatcher);
+            covered.set(quantityMatcher.start(), quantityMatcher.end());
+            if (quantityMatcher.find()) {
+                return Optional.empty();
+            }
+        }
+        if (quantity < 1 || hasUncoveredNumber(text, covered)
+                || (double) covered.cardinality() / text.length() < properties.getMinConfidence()) {
+            return Optional.empty();
+        }
+
+        AiFastPathProperties.Entry menu = menus.iterator().next();
+        AiFastPathProperties.Entry style = styles.iterator().next();
+        if (!menu.getStyleIds().isEmpty() && !menu.getStyleIds().contains(style.getId())) {
+            // 선택할 수 없는 스타일 안내는 AI 서비스가 담당
+            return Optional.empty();
+        }
+
+        OrderSummary summary = new OrderSummary(
+                menu.getId(), menu.getName(), quantity, style.getId(), style.getName(), defaultOptions(menu));
+        String reply = menu.getName() + " " + style.getName() + " 스타일 " + quantity + "개 주문을 확인했습니다.";
+        return Optional.of(new AiChatResponse(reply, properties.getState(), summary));
+    }
+
+    /**
+     * 응답마다 새 목록 (OrderSummary.OptionInfo는 변경 가능한 DTO)
+     */
+    private static List<OrderSummary.OptionInfo> defaultOptions(AiFastPathProperties.Entry menu) {
+        List<OrderSummary.OptionInfo> options = new ArrayList<>(menu.getDefaultOptions().size());
+        for (AiFastPathProperties.DefaultOption option : menu.getDefaultOptions()) {
+            options.add(new OrderSummary.OptionInfo(option.getId(), option.getName(), option.getQuantity()));
+        }
+        return options;
+    }
+
+    private static int toQuantity(Matcher matcher) {
+        String number = matcher.group(1) != null ? matcher.group(1) : matcher.group(3);
+        Integer numeral = NUMERALS.get(number);
+        return numeral != null ? numeral : Integer.parseInt(number);
+    }
+
+    /**
+     * 수량으로 인식되지 않은 숫자/수사가 남아 있으면 true (예: "두 명이요", "3인")
+     * 기본 수량 1로 잘못 해석하지 않도록 AI 서비스로 넘김
+     */
+    private static boolean hasUncoveredNumber(String text, BitSet covered) {
+        int start = covered.nextClearBit(0);
+        while (start < text.length()) {
+            int end = covered.nextSetBit(start);
+            if (end < 0) {
+                end = text.length();
+            }
+            String uncovered = text.substring(start, end);
+            for (int i = 0; i < uncovered.length(); i++) {
+                if (Character.isDigit(uncovered.charAt(i))) {
+                    return true;
+                }
+            }
+            for (String numeral : NUMERALS.keySet()) {
+                if (uncovered.contains(numeral)) {
+                    return true;
+                }
+            }
+            start = covered.nextClearBit(end);
+        }
+        return false;
+    }
+
+    private static void putEntry(Map<String, Term> keywords, Kind kind, AiFastPathProperties.Entry entry) {
+        Term term = new Term(kind, entry);
+        keywords.put(compact(entry.getName()), term);
+        for (String alias : entry.getAliases()) {
+            keywords.put(compact(alias), term);
+        }
+    }
+
+    /**
+     * 띄어쓰기 차이를 없애기 위해 NFC 정규화 후 공백을 모두 제거하고 소문자로 변환
+     */
+    private static String compact(String text) {
+        return Normalizer.normalize(text, Normalizer.Form.NFC)
+                .replaceAll("\\s+", "")
+                .toLowerCase(Locale.ROOT);
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("ai.fast-path.requests")
+                .description("규칙 기반 주문 해석 결과 (hit: 빠른 경로 응답, fallback: AI 서비스로 넘김)")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,220 @@
+package com.dinnervery.service;
+
+import com.dinnervery.dto.ai.response.AiChatChunk;
+import com.dinnervery.dto.ai.response.AiChatResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * AI 주문 해석 (규칙 기반 빠른 경로 + 응답 캐시 + 동일 요청 합치기)
+ * - 빠른 경로가 켜져 있으면 단순한 발화는 AI 서비스 없이 규칙으로 해석 (AiFastPath)
+ * - 정규화한 발화(NFC, 공백 정리, 소문자)를 키로 최종 상태(cacheable-states) 응답만 캐시
+ * - 대화가 이어지는 중간 상태 응답은 캐시하지 않음
+ * - 같은 발화가 동시에 들어오면 AI 서비스는 한 번만 호출하고 결과를 함께 받음
+ * - conversationId가 있는 발화는 AI 서비스가 이전 턴 문맥으로 해석하므로 빠른 경로/캐시를 모두 건너뛰고 캐시에 저장하지도 않음
+ *   (conversationId가 없으면 AI 서비스도 문맥 없이 발화만으로 해석하므로 같은 발화의 응답을 재사용해도 됨)
+ */
+@Service
+public class AiOrderService {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final AiServiceClient aiServiceClient;
+    private final AiFastPath aiFastPath;
+    private final boolean cacheEnabled;
+    private final Set<String> cacheableStates;
+    private final Cache<String, Cached> responses;
+    private final ConcurrentHashMap<String, Mono<AiChatResponse>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter coalescedCounter;
+    private final Counter bypassCounter;
+    private final Counter savedLatencyCounter;
+
+    public AiOrderService(
+            AiServiceClient aiServiceClient,
+            AiFastPath aiFastPath,
+            MeterRegistry meterRegistry,
+            @Value("${ai.cache.enabled:true}") boolean cacheEnabled,
+            @Value("${ai.cache.max-size:10000}") long maxSize,
+            @Value("${ai.cache.ttl:10m}") Duration ttl,
+            @Value("${ai.cache.cacheable-states:COMPLETE}") List<String> cacheableStates) {
+        this.aiServiceClient = aiServiceClient;
+        this.aiFastPath = aiFastPath;
+        this.cacheEnabled = cacheEnabled;
+        this.cacheableStates = cacheableStates.stream()
+                .map(state -> state.trim().toUpperCase(Locale.ROOT))
+                .collect(Collectors.toUnmodifiableSet());
+        this.responses = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+
+        this.hitCounter = requestCounter(meterRegistry, "hit");
+        this.missCounter = requestCounter(meterRegistry, "miss");
+        this.coalescedCounter = requestCounter(meterRegistry, "coalesced");
+        this.bypassCounter = requestCounter(meterRegistry, "bypass");
+        this.savedLatencyCounter = Counter.builder("ai.cache.latency.saved")
+                .description("캐시 적중으로 생략된 AI 서비스 호출 시간 합계")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 응답과 그 응답을 받는 데 걸린 AI 서비스 호출 시간
+     */
+    @lombok.Value
+    private static class Cached {
+        AiChatResponse response;
+        long upstreamMillis;
+    }
+
+    /**
+     * 발화를 주문으로 해석
+     * @param conversationId 이어지는 대화의 식별자 (없으면 단독 발화)
+     */
+    public Mono<AiChatResponse> processOrder(String text, String conversationId) {
+        if (text == null || text.isBlank()) {
+            return Mono.error(new IllegalArgumentException("text는 필수입니다."));
+        }
+        if (conversationId != null && !conversationId.isBlank()) {
+            bypassCounter.increment();
+            return aiServiceClient.callAi(text, conversationId);
+        }
+        Optional<AiChatResponse> local = answerLocally(text);
+        if (local.isPresent()) {
+            return Mono.just(local.get());
+        }
+        if (!cacheEnabled) {
+            return aiServiceClient.callAi(text);
+        }
+
+        String key = normalize(text);
+        Mono<AiChatResponse> mine = upstream(key, text);
+        Mono<AiChatResponse> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            coalescedCounter.increment();
+            return running;
+        }
+        missCounter.increment();
+        return mine;
+    }
+
+    /**
+     * 발화를 주문으로 해석하면서 생성 중인 응답 조각을 바로 전달 (마지막 조각이 최종 응답)
+     * 빠른 경로/캐시로 해석되면 최종 응답 한 조각만 보냄
+     * 스트림은 구독자마다 따로 받으므로 합치지 않으며, 최종 응답이 캐시 대상이면 캐시에 저장
+     * conversationId 처리는 processOrder와 같음
+     */
+    public Flux<AiChatChunk> streamOrder(String text, String conversationId) {
+        if (text == null || text.isBlank()) {
+            return Flux.error(new IllegalArgumentException("text는 필수입니다."));
+        }
+        if (conversationId != null && !conversationId.isBlank()) {
+            bypassCounter.increment();
+            return aiServiceClient.streamAi(text, conversationId);
+        }
+        Optional<AiChatResponse> local = answerLocally(text);
+        if (local.isPresent()) {
+            return Flux.just(AiChatChunk.result(local.get()));
+        }
+        if (!cacheEnabled) {
+            return aiServiceClient.streamAi(text);
+        }
+
+        String key = normalize(text);
+        missCounter.increment();
+        return Flux.defer(() -> {
+            long startNanos = System.nanoTime();
+            return aiServiceClient.streamAi(text)
+                    .doOnNext(chunk -> {
+                        if (chunk.isFinal() && isCacheable(chunk.getResult())) {
+                            long upstreamMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+                            responses.put(key, new Cached(chunk.getResult(), upstreamMillis));
+                        }
+                    });
+        });
+    }
+
+    /**
+     * AI 서비스 없이 응답할 수 있으면 응답 (빠른 경로 -> 캐시 순)
+     */
+    private Optional<AiChatResponse> answerLocally(String text) {
+        if (aiFastPath.isEnabled()) {
+            Optional<AiChatResponse> parsed = aiFastPath.parse(text);
+            if (parsed.isPresent()) {
+                return parsed;
+            }
+        }
+        if (cacheEnabled) {
+            Cached cached = responses.getIfPresent(normalize(text));
+            if (cached != null) {
+                hitCounter.increment();
+                savedLatencyCounter.increment(cached.getUpstreamMillis());
+                return Optional.of(cached.getResponse());
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * AI 서비스 호출 1회를 여러 구독자가 공유하는 Mono
+     * 완료되면(성공/실패 모두) 진행 중 목록에서 빠지며, 실패 결과는 캐시하지 않음
+     */
+    private Mono<AiChatResponse> upstream(String key, String text) {
+        AtomicReference<Mono<AiChatResponse>> self = new AtomicReference<>();
+        Mono<AiChatResponse> shared = aiServiceClient.callAi(text)
+                .elapsed()
+                .doOnNext(timed -> {
+                    AiChatResponse response = timed.getT2();
+                    if (isCacheable(response)) {
+                        responses.put(key, new Cached(response, timed.getT1()));
+                    }
+                })
+                .map(Tuple2::getT2)
+                .doFinally(signal -> inFlight.remove(key, self.get()))
+                .cache();
+        self.set(shared);
+        return shared;
+    }
+
+    private boolean isCacheable(AiChatResponse response) {
+        return response.getState() != null
+                && cacheableStates.contains(response.getState().trim().toUpperCase(Locale.ROOT));
+    }
+
+    /**
+     * 캐시 키: 유니코드 NFC 정규화 후 앞뒤 공백 제거, 연속 공백을 하나로, 소문자
+     */
+    private static String normalize(String text) {
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFC).trim();
+        return WHITESPACE.matcher(normalized).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("ai.cache.requests")
+                .description("AI 주문 해석 요청 수 (hit: 캐시 적중, miss: AI 서비스 호출, coalesced: 진행 중 호출에 합류, bypass: 대화 중 발화라 캐시 미사용)")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
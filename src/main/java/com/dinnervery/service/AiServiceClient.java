@@ -1,18 +1,108 @@
 package com.dinnervery.service;
 
+import com.dinnervery.common.ServiceUnavailableException;
+import com.dinnervery.dto.ai.response.AiChatChunk;
 import com.dinnervery.dto.ai.response.AiChatResponse;
-import lombok.RequiredArgsConstructor;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.netty.channel.ConnectTimeoutException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+import reactor.util.retry.RetryBackoffSpec;
 
+import java.net.ConnectException;
+import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+/**
+ * AI 서비스 호출 클라이언트
+ * - 호출 전체 기한(call-timeout)과 응답 대기 기한(response-timeout)으로 멈춘 호출을 끊음
+ * - 요청이 전달되지 않은 연결 실패만 지터 백오프로 재시도 (이미 처리 중일 수 있는 요청은 재시도하지 않음)
+ * - 연속 실패 시 서킷 브레이커가 호출을 바로 거절하여 대기 요청이 쌓이지 않게 함
+ */
 @Service
-@RequiredArgsConstructor
 public class AiServiceClient {
 
+    private static final ParameterizedTypeReference<ServerSentEvent<String>> SSE_TYPE =
+            new ParameterizedTypeReference<>() {
+            };
+
     private final WebClient aiWebClient;
+    private final ObjectMapper objectMapper;
+    private final String streamPath;
+    private final Duration callTimeout;
+    private final RetryBackoffSpec retrySpec;
+    private final AiCircuitBreaker circuitBreaker;
+
+    private final Timer successTimer;
+    private final Timer failureTimer;
+    private final Counter rejectedCounter;
+    private final Timer streamFirstTokenTimer;
+    private final Timer streamTotalTimer;
+
+    public AiServiceClient(
+            WebClient aiWebClient,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${ai.stream-path:/chat/stream}") String streamPath,
+            @Value("${ai.client.call-timeout:30s}") Duration callTimeout,
+            @Value("${ai.client.retry.max-retries:2}") int maxRetries,
+            @Value("${ai.client.retry.min-backoff:100ms}") Duration minBackoff,
+            @Value("${ai.client.retry.max-backoff:1s}") Duration maxBackoff,
+            @Value("${ai.client.circuit-breaker.failure-threshold:5}") int failureThreshold,
+            @Value("${ai.client.circuit-breaker.open-duration:30s}") Duration openDuration) {
+        this.aiWebClient = aiWebClient;
+        this.objectMapper = objectMapper;
+        this.streamPath = streamPath;
+        this.callTimeout = callTimeout;
+        this.retrySpec = Retry.backoff(maxRetries, minBackoff)
+                .maxBackoff(maxBackoff)
+                .jitter(0.5)
+                .filter(AiServiceClient::isRetryable)
+                .onRetryExhaustedThrow((spec, signal) -> signal.failure());
+        this.circuitBreaker = new AiCircuitBreaker(failureThreshold, openDuration);
+
+        this.successTimer = Timer.builder("ai.client.requests")
+                .description("AI 서비스 호출 시간 (재시도 포함)")
+                .tag("outcome", "success")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.failureTimer = Timer.builder("ai.client.requests")
+                .description("AI 서비스 호출 시간 (재시도 포함)")
+                .tag("outcome", "failure")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("ai.client.rejected")
+                .description("서킷 오픈으로 거절된 AI 서비스 호출 건수")
+                .register(meterRegistry);
+        this.streamFirstTokenTimer = Timer.builder("ai.client.stream.first-token")
+                .description("AI 서비스 스트리밍 호출의 첫 조각 수신까지 걸린 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.streamTotalTimer = Timer.builder("ai.client.stream.total")
+                .description("AI 서비스 스트리밍 호출 전체 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        Gauge.builder("ai.client.circuit.state", circuitBreaker, breaker -> breaker.getState().ordinal())
+                .description("AI 서비스 서킷 상태 (0: CLOSED, 1: HALF_OPEN, 2: OPEN)")
+                .register(meterRegistry);
+    }
 
     /**
      * AI 서비스 호출 (음성 인식 주문 처리)
@@ -20,28 +110,222 @@ public class AiServiceClient {
      * @return AI 서비스 응답 (DTO 객체)
      */
     public Mono<AiChatResponse> callAi(String request) {
+        return callAi(request, null);
+    }
+
+    /**
+     * AI 서비스 호출 (대화 중인 발화)
+     * @param conversationId 대화 식별자 (없으면 대화 문맥 없는 단독 발화)
+     */
+    public Mono<AiChatResponse> callAi(String request, String conversationId) {
         // AI 서비스의 /chat 엔드포인트 호출
-        // 요청 형식: {"text": "..."}
-        Map<String, String> requestBody = Map.of("text", request);
-        return aiWebClient.post()
-                .uri("/chat")
-                .bodyValue(requestBody)
-                .retrieve()
-                .bodyToMono(AiChatResponse.class)
-                .onErrorResume(error -> {
-                    // 에러 처리
-                    return Mono.error(new RuntimeException("AI 서비스 호출 실패: " + error.getMessage()));
-                });
+        // 요청 형식: {"text": "...", "conversationId": "..."} (conversationId는 있을 때만)
+        Map<String, String> requestBody = requestBody(request, conversationId);
+        return Mono.defer(() -> {
+            if (!circuitBreaker.tryAcquire()) {
+                return Mono.error(rejected());
+            }
+
+            long startNanos = System.nanoTime();
+            return aiWebClient.post()
+                    .uri("/chat")
+                    .bodyValue(requestBody)
+                    .retrieve()
+                    .bodyToMono(AiChatResponse.class)
+                    .retryWhen(retrySpec)
+                    .timeout(callTimeout)
+                    .doOnSuccess(response -> {
+                        circuitBreaker.onSuccess();
+                        successTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+                    })
+                    .doOnError(error -> {
+                        recordFailure(error);
+                        failureTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+                    })
+                    .doOnCancel(circuitBreaker::onCancel)
+                    .onErrorMap(AiServiceClient::toCallFailure);
+        });
+    }
+
+    /**
+     * AI 서비스 스트리밍 호출 (SSE)
+     * AI 서비스는 생성 중 "token" 이벤트(data: 텍스트 조각)를, 마지막에 "summary" 이벤트(data: AiChatResponse JSON)를 보냄
+     * 일부 조각이 이미 전달되었을 수 있으므로 재시도하지 않으며, 조각 사이 대기 시간이 call-timeout을 넘으면 실패
+     * "summary" 이벤트 없이 스트림이 끝나면 AI 서비스 실패로 보고 오류로 끝냄
+     */
+    public Flux<AiChatChunk> streamAi(String request) {
+        return streamAi(request, null);
+    }
+
+    /**
+     * AI 서비스 스트리밍 호출 (대화 중인 발화, conversationId는 callAi와 같음)
+     */
+    public Flux<AiChatChunk> streamAi(String request, String conversationId) {
+        Map<String, String> requestBody = requestBody(request, conversationId);
+        return Flux.defer(() -> {
+            if (!circuitBreaker.tryAcquire()) {
+                return Flux.error(rejected());
+            }
+
+            long startNanos = System.nanoTime();
+            AtomicBoolean firstReceived = new AtomicBoolean();
+            AtomicBoolean summarized = new AtomicBoolean();
+            return aiWebClient.post()
+                    .uri(streamPath)
+                    .accept(MediaType.TEXT_EVENT_STREAM)
+                    .bodyValue(requestBody)
+                    .retrieve()
+                    .bodyToFlux(SSE_TYPE)
+                    .timeout(callTimeout)
+                    .mapNotNull(this::toChunk)
+                    .doOnNext(chunk -> {
+                        if (firstReceived.compareAndSet(false, true)) {
+                            streamFirstTokenTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+                        }
+                        if (chunk.isFinal()) {
+                            summarized.set(true);
+                        }
+                    })
+                    .concatWith(Flux.defer(() -> summarized.get()
+                            ? Flux.<AiChatChunk>empty()
+                            : Flux.<AiChatChunk>error(new IncompleteStreamException())))
+                    .doOnComplete(() -> {
+                        circuitBreaker.onSuccess();
+                        streamTotalTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+                    })
+                    .doOnError(this::recordFailure)
+                    .doOnCancel(circuitBreaker::onCancel)
+                    .onErrorMap(AiServiceClient::toCallFailure);
+        });
     }
 
     /**
-     * AI 서비스 Health Check
+     * AI 서비스 Health Check (서킷 상태와 무관하게 실제 상태를 확인)
      */
     public Mono<String> healthCheck() {
         return aiWebClient.get()
                 .uri("/health")
                 .retrieve()
-                .bodyToMono(String.class);
+                .bodyToMono(String.class)
+                .timeout(callTimeout);
+    }
+
+    private static Map<String, String> requestBody(String text, String conversationId) {
+        if (conversationId == null) {
+            return Map.of("text", text);
+        }
+        return Map.of("text", text, "conversationId", conversationId);
     }
-}
 
+    /**
+     * AI 서비스 SSE 이벤트 -> 응답 조각 (알 수 없는 이벤트는 null로 건너뜀)
+     */
+    private AiChatChunk toChunk(ServerSentEvent<String> event) {
+        String data = event.data();
+        if (data == null) {
+            return null;
+        }
+        if ("summary".equals(event.event())) {
+            try {
+                return AiChatChunk.result(objectMapper.readValue(data, AiChatResponse.class));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("AI 서비스 응답 형식 오류: " + e.getOriginalMessage());
+            }
+        }
+        if (event.event() == null || "token".equals(event.event())) {
+            return AiChatChunk.token(data);
+        }
+        return null;
+    }
+
+    /**
+     * 실패를 서킷 브레이커에 반영
+     * 커넥션 풀 대기 실패는 요청이 AI 서비스에 전달되지 않았으므로 성공/실패 어느 쪽으로도 세지 않음
+     */
+    private void recordFailure(Throwable error) {
+        if (isPoolAcquireFailure(error)) {
+            circuitBreaker.onCancel();
+        } else if (isServiceFailure(error)) {
+            circuitBreaker.onFailure();
+        } else {
+            // 4xx, 응답 해석 실패 등은 AI 서비스 상태와 무관하므로 서킷 판단에 쓰지 않음
+            circuitBreaker.onCancel();
+        }
+    }
+
+    private ServiceUnavailableException rejected() {
+        rejectedCounter.increment();
+        return new ServiceUnavailableException("AI 서비스가 일시적으로 응답하지 않습니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    private static Throwable toCallFailure(Throwable error) {
+        // 에러 처리
+        if (error instanceof ServiceUnavailableException) {
+            return error;
+        }
+        if (isPoolAcquireFailure(error)) {
+            return new ServiceUnavailableException("AI 서비스 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+        if (isServiceFailure(error)) {
+            return new ServiceUnavailableException("AI 서비스 호출 실패: " + error.getMessage());
+        }
+        return new RuntimeException("AI 서비스 호출 실패: " + error.getMessage());
+    }
+
+    /**
+     * 연결을 맺지 못한 경우만 재시도 (요청이 전송되지 않았음이 확실한 경우)
+     * 요청을 보낸 뒤 연결이 끊기거나 응답 대기 중 타임아웃이 나면 AI 서비스가 이미 처리 중일 수 있으므로 제외
+     * 커넥션 풀 대기 실패도 재시도하면 포화된 풀에 대기 요청만 더 쌓이므로 제외
+     */
+    static boolean isRetryable(Throwable error) {
+        if (!(error instanceof WebClientRequestException) || isPoolAcquireFailure(error)) {
+            return false;
+        }
+        for (Throwable current = error.getCause(); current != null; current = current.getCause()) {
+            if (current instanceof ConnectException || current instanceof ConnectTimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 서킷 브레이커 실패로 셀 오류 (연결 실패, 타임아웃, 5xx). 4xx는 요청 문제이므로 제외
+     * 커넥션 풀 대기 실패는 이 서버 쪽 포화이므로 제외
+     */
+    static boolean isServiceFailure(Throwable error) {
+        if (isPoolAcquireFailure(error)) {
+            return false;
+        }
+        if (error instanceof WebClientResponseException responseException) {
+            return responseException.getStatusCode().is5xxServerError();
+        }
+        return error instanceof WebClientRequestException
+                || error instanceof TimeoutException
+                || error instanceof IncompleteStreamException;
+    }
+
+    /**
+     * 커넥션 풀 대기 실패 (PoolAcquireTimeoutException, PoolAcquirePendingLimitException)
+     * WebClient가 WebClientRequestException으로 감싸서 전달하므로 원인 체인을 확인하며,
+     * reactor-netty가 reactor-pool을 셰이딩해 패키지가 바뀔 수 있으므로 클래스 이름으로 비교
+     */
+    static boolean isPoolAcquireFailure(Throwable error) {
+        for (Throwable current = error; current != null; current = current.getCause()) {
+            String name = current.getClass().getSimpleName();
+            if ("PoolAcquireTimeoutException".equals(name) || "PoolAcquirePendingLimitException".equals(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 스트림이 "summary" 이벤트 없이 끝남 (AI 서비스가 생성 도중 연결을 정상 종료한 경우 등)
+     */
+    static final class IncompleteStreamException extends IllegalStateException {
+        IncompleteStreamException() {
+            super("AI 서비스 스트림이 최종 응답 없이 종료되었습니다.");
+        }
+    }
+}
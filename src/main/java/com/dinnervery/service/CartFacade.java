@@ -0,0 +1,60 @@
+package com.dinnervery.service;
+
+import com.dinnervery.dto.cart.request.CartAddItemRequest;
+import com.dinnervery.dto.cart.request.CartBatchAddRequest;
+import com.dinnervery.dto.cart.request.CartOptionQuantityChangeRequest;
+import com.dinnervery.dto.cart.response.CartBatchAddResponse;
+import com.dinnervery.dto.cart.response.CartDeleteResponse;
+import com.dinnervery.dto.cart.response.CartItemResponse;
+import com.dinnervery.dto.cart.response.CartOptionChangeResponse;
+import com.dinnervery.dto.cart.response.CartResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Service;
+
+/**
+ * 장바구니 API 진입점
+ * cart.store.mode에 따라 메모리 장바구니(MemoryCartService) 또는 DB 장바구니(CartService)로 위임
+ */
+@Service
+@RequiredArgsConstructor
+public class CartFacade {
+
+    private final CartService cartService;
+    private final MemoryCartService memoryCartService;
+    private final CartStore cartStore;
+
+    public CartItemResponse addItemToCart(@NonNull Long customerId, CartAddItemRequest request) {
+        return cartStore.isEnabled()
+                ? memoryCartService.addItemToCart(customerId, request)
+                : cartService.addItemToCart(customerId, request);
+    }
+
+    public CartBatchAddResponse addItemsToCart(@NonNull Long customerId, CartBatchAddRequest request) {
+        return cartStore.isEnabled()
+                ? memoryCartService.addItemsToCart(customerId, request)
+                : cartService.addItemsToCart(customerId, request);
+    }
+
+    public CartResponse getCart(@NonNull Long customerId) {
+        return cartStore.isEnabled()
+                ? memoryCartService.getCart(customerId)
+                : cartService.getCart(customerId);
+    }
+
+    public CartOptionChangeResponse changeOptionQuantity(
+            @NonNull Long customerId,
+            @NonNull Long cartItemId,
+            @NonNull Long optionId,
+            CartOptionQuantityChangeRequest request) {
+        return cartStore.isEnabled()
+                ? memoryCartService.changeOptionQuantity(customerId, cartItemId, optionId, request)
+                : cartService.changeOptionQuantity(customerId, cartItemId, optionId, request);
+    }
+
+    public CartDeleteResponse deleteCartItem(@NonNull Long customerId, Long cartItemId) {
+        return cartStore.isEnabled()
+                ? memoryCartService.deleteCartItem(customerId, cartItemId)
+                : cartService.deleteCartItem(customerId, cartItemId);
+    }
+}
@@ -0,0 +1,163 @@
+package com.dinnervery.service;
+
+import com.dinnervery.dto.cart.request.CartAddItemRequest;
+import com.dinnervery.dto.cart.request.CartBatchAddRequest;
+import com.dinnervery.dto.cart.response.CartBatchAddResponse;
+import com.dinnervery.dto.cart.response.CartItemResponse;
+import com.dinnervery.dto.cart.response.CartMenuResponse;
+import com.dinnervery.dto.cart.response.CartOptionChangeResponse;
+import com.dinnervery.dto.cart.response.CartOptionResponse;
+import com.dinnervery.dto.cart.response.CartResponse;
+import com.dinnervery.entity.CartItem;
+import com.dinnervery.entity.CartItemOption;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 장바구니 요청 -> 엔티티, 엔티티 -> 응답 변환
+ * DB 장바구니(CartService)와 메모리 장바구니(MemoryCartService)가 같은 응답 형태를 쓰도록 공유
+ */
+final class CartMapper {
+
+    private static final int MAX_BATCH_ITEMS = 50;
+
+    private CartMapper() {
+    }
+
+    static CartItem toCartItem(CartAddItemRequest request) {
+        return CartItem.builder()
+                .menuId(request.getMenuId())
+                .menuName(request.getMenuName())
+                .menuPrice(request.getMenuPrice())
+                .styleId(request.getStyleId())
+                .styleName(request.getStyleName())
+                .styleExtraPrice(request.getStyleExtraPrice())
+                .quantity(request.getMenuQuantity())
+                .build();
+    }
+
+    /**
+     * 일괄 추가 요청을 옵션까지 담은 CartItem 목록으로 변환 (장바구니에는 아직 넣지 않음)
+     */
+    static List<CartItem> toCartItems(CartBatchAddRequest request, StorageService storageService) {
+        List<CartAddItemRequest> items = request == null ? null : request.getItems();
+        if (items == null || items.isEmpty()) {
+            throw new IllegalArgumentException("추가할 아이템이 없습니다.");
+        }
+        if (items.size() > MAX_BATCH_ITEMS) {
+            throw new IllegalArgumentException("한 번에 추가할 수 있는 아이템은 " + MAX_BATCH_ITEMS + "개 이하입니다.");
+        }
+
+        List<CartItem> cartItems = new ArrayList<>(items.size());
+        for (CartAddItemRequest item : items) {
+            CartItem cartItem = toCartItem(item);
+            for (CartItemOption cartItemOption : toCartItemOptions(item, storageService)) {
+                cartItem.addCartItemOption(cartItemOption);
+            }
+            cartItems.add(cartItem);
+        }
+        return cartItems;
+    }
+
+    /**
+     * 요청 옵션을 CartItemOption으로 변환 (재료별 소비량은 담는 시점의 레시피 테이블에서 복사)
+     */
+    static List<CartItemOption> toCartItemOptions(CartAddItemRequest request, StorageService storageService) {
+        if (request.getOptions() == null) {
+            return List.of();
+        }
+        List<CartItemOption> options = new ArrayList<>(request.getOptions().size());
+        for (CartAddItemRequest.OptionRequest optReq : request.getOptions()) {
+            options.add(CartItemOption.builder()
+                    .optionId(optReq.getOptionId())
+                    .optionName(optReq.getOptionName())
+                    .optionPrice(optReq.getOptionPrice())
+                    .defaultQty(optReq.getDefaultQty())
+                    .quantity(optReq.getQuantity())
+                    .storageRecipe(storageService.getStorageRecipe(optReq.getOptionId(), optReq.getOptionName()))
+                    .build());
+        }
+        return options;
+    }
+
+    /**
+     * 아이템 추가/수정 응답
+     */
+    static CartItemResponse toItemResponse(Long cartItemId, CartItem cartItem) {
+        List<CartItemOption> cartItemOptions = cartItem.getCartItemOptions();
+        List<CartOptionResponse> options = new ArrayList<>(cartItemOptions.size());
+        for (CartItemOption option : cartItemOptions) {
+            options.add(toOptionResponse(option));
+        }
+
+        return new CartItemResponse(
+                cartItemId,
+                toMenuResponse(cartItem),
+                new CartItemResponse.Style(cartItem.getStyleId(), cartItem.getStyleName(), cartItem.getStyleExtraPrice()),
+                options,
+                cartItem.getItemTotalPrice()
+        );
+    }
+
+    /**
+     * 일괄 추가 응답
+     * @param cartItems 아이템 ID -> 추가된 아이템 (추가 순서 유지)
+     */
+    static CartBatchAddResponse toBatchAddResponse(Map<Long, CartItem> cartItems, int totalAmount) {
+        List<CartItemResponse> items = new ArrayList<>(cartItems.size());
+        for (Map.Entry<Long, CartItem> entry : cartItems.entrySet()) {
+            items.add(toItemResponse(entry.getKey(), entry.getValue()));
+        }
+        return new CartBatchAddResponse(items, totalAmount);
+    }
+
+    /**
+     * 장바구니 조회 응답
+     * @param cartItems 아이템 ID -> 아이템 (순서 유지)
+     */
+    static CartResponse toCartResponse(Long cartId, Long customerId, Map<Long, CartItem> cartItems) {
+        List<CartResponse.Item> items = new ArrayList<>(cartItems.size());
+        int totalAmount = 0;
+        for (Map.Entry<Long, CartItem> entry : cartItems.entrySet()) {
+            CartItem cartItem = entry.getValue();
+            List<CartItemOption> cartItemOptions = cartItem.getCartItemOptions();
+            List<CartResponse.Option> options = new ArrayList<>(cartItemOptions.size());
+            for (CartItemOption o : cartItemOptions) {
+                options.add(new CartResponse.Option(
+                        o.getOptionId(),
+                        o.getOptionName(),
+                        o.getQuantity(),
+                        o.getDefaultQty(),
+                        o.getOptionPrice(),
+                        o.calculateExtraCost()
+                ));
+            }
+
+            items.add(new CartResponse.Item(
+                    entry.getKey(),
+                    toMenuResponse(cartItem),
+                    new CartResponse.Style(cartItem.getStyleId(), cartItem.getStyleName(), cartItem.getStyleExtraPrice()),
+                    options
+            ));
+            totalAmount += cartItem.getItemTotalPrice();
+        }
+        return new CartResponse(cartId, customerId, items, totalAmount);
+    }
+
+    /**
+     * 옵션 수량 변경 응답
+     */
+    static CartOptionChangeResponse toOptionChangeResponse(Long cartItemId, CartItemOption option, int itemTotal, int totalAmount) {
+        return new CartOptionChangeResponse(cartItemId, toOptionResponse(option), itemTotal, totalAmount);
+    }
+
+    private static CartMenuResponse toMenuResponse(CartItem cartItem) {
+        return new CartMenuResponse(cartItem.getMenuId(), cartItem.getMenuName(), cartItem.getQuantity(), cartItem.getMenuPrice());
+    }
+
+    private static CartOptionResponse toOptionResponse(CartItemOption option) {
+        return new CartOptionResponse(option.getOptionId(), option.getOptionName(), option.getQuantity(), option.getOptionPrice());
+    }
+}
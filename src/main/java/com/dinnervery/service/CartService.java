@@ -1,7 +1,13 @@
 package com.dinnervery.service;
 
 import com.dinnervery.dto.cart.request.CartAddItemRequest;
+import com.dinnervery.dto.cart.request.CartBatchAddRequest;
+import com.dinnervery.dto.cart.response.CartBatchAddResponse;
 import com.dinnervery.dto.cart.request.CartOptionQuantityChangeRequest;
+import com.dinnervery.dto.cart.response.CartDeleteResponse;
+import com.dinnervery.dto.cart.response.CartItemResponse;
+import com.dinnervery.dto.cart.response.CartOptionChangeResponse;
+import com.dinnervery.dto.cart.response.CartResponse;
 import com.dinnervery.entity.Cart;
 import com.dinnervery.entity.CartItem;
 import com.dinnervery.entity.Customer;
@@ -15,11 +21,10 @@ import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -33,7 +38,7 @@ public class CartService {
     private final StorageService storageService;
 
     @Transactional
-    public Map<String, Object> addItemToCart(@NonNull Long customerId, CartAddItemRequest request) {
+    public CartItemResponse addItemToCart(@NonNull Long customerId, CartAddItemRequest request) {
         Customer customer = customerRepository.findById(customerId)
                 .orElseThrow(() -> new IllegalArgumentException("고객을 찾을 수 없습니다: " + customerId));
 
@@ -44,129 +49,60 @@ public class CartService {
             return cartRepository.save(newCart);
         });
 
-        CartItem cartItem = CartItem.builder()
-                .menuId(request.getMenuId())
-                .menuName(request.getMenuName())
-                .menuPrice(request.getMenuPrice())
-                .styleId(request.getStyleId())
-                .styleName(request.getStyleName())
-                .styleExtraPrice(request.getStyleExtraPrice())
-                .quantity(request.getMenuQuantity())
-                .build();
-
-        cartItem.setCart(cart);
-        if (request.getOptions() != null) {
-            for (CartAddItemRequest.OptionRequest optReq : request.getOptions()) {
-                // StorageService에서 옵션 이름에 따른 재고 소비량 조회
-                int storageConsumption = storageService.getStorageConsumption(optReq.getOptionName());
-                
-                CartItemOption cartItemOption = CartItemOption.builder()
-                        .optionId(optReq.getOptionId())
-                        .optionName(optReq.getOptionName())
-                        .optionPrice(optReq.getOptionPrice())
-                        .defaultQty(optReq.getDefaultQty())
-                        .quantity(optReq.getQuantity())
-                        .storageConsumption(storageConsumption)
-                        .build();
-                cartItem.addCartItemOption(cartItemOption);
-            }
+        CartItem cartItem = CartMapper.toCartItem(request);
+        for (CartItemOption cartItemOption : CartMapper.toCartItemOptions(request, storageService)) {
+            cartItem.addCartItemOption(cartItemOption);
         }
+
+        // 옵션까지 담은 뒤 장바구니에 추가해야 총액에 아이템 금액이 한 번만 반영됨
+        cart.addCartItem(cartItem);
         CartItem savedCartItem = cartItemRepository.save(cartItem);
-        cart.addCartItem(savedCartItem);
         cartRepository.save(cart);
 
-        Map<String, Object> menuObj = new HashMap<>();
-        menuObj.put("menuId", savedCartItem.getMenuId());
-        menuObj.put("name", savedCartItem.getMenuName());
-        menuObj.put("quantity", savedCartItem.getQuantity());
-        menuObj.put("unitPrice", savedCartItem.getMenuPrice());
+        return CartMapper.toItemResponse(savedCartItem.getId(), savedCartItem);
+    }
 
-        Map<String, Object> styleObj = new HashMap<>();
-        styleObj.put("styleId", savedCartItem.getStyleId());
-        styleObj.put("name", savedCartItem.getStyleName());
-        styleObj.put("price", savedCartItem.getStyleExtraPrice());
+    /**
+     * 여러 아이템을 한 번에 추가 (고객/장바구니 조회 1회, 아이템/옵션 INSERT는 flush 시 JDBC 배치)
+     */
+    @Transactional
+    public CartBatchAddResponse addItemsToCart(@NonNull Long customerId, CartBatchAddRequest request) {
+        List<CartItem> cartItems = CartMapper.toCartItems(request, storageService);
 
-        List<Map<String, Object>> optionsList = savedCartItem.getCartItemOptions().stream()
-                .map(o -> {
-                    Map<String, Object> optionMap = new HashMap<>();
-                    optionMap.put("optionId", o.getOptionId());
-                    optionMap.put("name", o.getOptionName());
-                    optionMap.put("quantity", o.getQuantity());
-                    optionMap.put("unitPrice", o.getOptionPrice());
-                    return optionMap;
-                })
-                .collect(Collectors.toList());
+        Customer customer = customerRepository.findById(customerId)
+                .orElseThrow(() -> new IllegalArgumentException("고객을 찾을 수 없습니다: " + customerId));
+        Cart cart = cartRepository.findByCustomer_Id(customerId)
+                .orElseGet(() -> cartRepository.save(Cart.builder().customer(customer).build()));
 
-        Map<String, Object> response = new HashMap<>();
-        response.put("cartItemId", savedCartItem.getId());
-        response.put("menu", menuObj);
-        response.put("style", styleObj);
-        response.put("options", optionsList);
-        response.put("totalAmount", savedCartItem.getItemTotalPrice());
+        for (CartItem cartItem : cartItems) {
+            cart.addCartItem(cartItem);
+        }
+        // pooled 시퀀스로 ID가 바로 할당되므로 INSERT는 커밋 시 한 번에 배치로 실행됨
+        cartItemRepository.saveAll(cartItems);
 
-        return response;
+        Map<Long, CartItem> itemsById = new LinkedHashMap<>();
+        for (CartItem cartItem : cartItems) {
+            itemsById.put(cartItem.getId(), cartItem);
+        }
+        return CartMapper.toBatchAddResponse(itemsById, cart.getTotalAmount());
     }
 
-    public Map<String, Object> getCart(@NonNull Long customerId) {
+    public CartResponse getCart(@NonNull Long customerId) {
         Optional<Cart> cart = cartRepository.findByCustomer_Id(customerId);
-        
-        Map<String, Object> response = new HashMap<>();
-        response.put("cartId", cart.map(Cart::getId).orElse(null));
-        response.put("customerId", customerId);
-        
         if (cart.isEmpty()) {
-            response.put("cartItems", List.of());
-            response.put("totalAmount", 0);
-            return response;
+            return CartMapper.toCartResponse(null, customerId, Map.of());
         }
 
         List<CartItem> cartItems = cartItemRepository.findByCart_Id(cart.get().getId());
-
-        List<Map<String, Object>> cartItemsList = cartItems.stream()
-                .map(item -> {
-                    Map<String, Object> itemMap = new HashMap<>();
-                    itemMap.put("cartItemId", item.getId());
-                    
-                    Map<String, Object> dinnerItem = new HashMap<>();
-                    dinnerItem.put("menuId", item.getMenuId());
-                    dinnerItem.put("name", item.getMenuName());
-                    dinnerItem.put("quantity", item.getQuantity());
-                    dinnerItem.put("unitPrice", item.getMenuPrice());
-                    itemMap.put("dinnerItem", dinnerItem);
-                    
-                    Map<String, Object> style = new HashMap<>();
-                    style.put("styleId", item.getStyleId());
-                    style.put("name", item.getStyleName());
-                    style.put("extraPrice", item.getStyleExtraPrice());
-                    itemMap.put("style", style);
-                    
-                    List<Map<String, Object>> options = item.getCartItemOptions().stream()
-                            .map(o -> {
-                                Map<String, Object> m = new HashMap<>();
-                                m.put("optionId", o.getOptionId());
-                                m.put("name", o.getOptionName());
-                                m.put("quantity", o.getQuantity());
-                                m.put("defaultQty", o.getDefaultQty());
-                                m.put("unitPrice", o.getOptionPrice());
-                                m.put("extraPrice", o.calculateExtraCost());
-                                return m;
-                            }).collect(Collectors.toList());
-                    itemMap.put("options", options);
-                    
-                    return itemMap;
-                })
-                .collect(Collectors.toList());
-
-        response.put("cartItems", cartItemsList);
-        
-        int totalAmount = cartItems.stream().mapToInt(CartItem::getItemTotalPrice).sum();
-        response.put("totalAmount", totalAmount);
-
-        return response;
+        Map<Long, CartItem> itemsById = new LinkedHashMap<>();
+        for (CartItem item : cartItems) {
+            itemsById.put(item.getId(), item);
+        }
+        return CartMapper.toCartResponse(cart.get().getId(), customerId, itemsById);
     }
 
     @Transactional
-    public Map<String, Object> updateCartItem(@NonNull Long customerId, @NonNull Long cartItemId, CartAddItemRequest request) {
+    public CartItemResponse updateCartItem(@NonNull Long customerId, @NonNull Long cartItemId, CartAddItemRequest request) {
         // 고객 검증
         customerRepository.findById(customerId)
                 .orElseThrow(() -> new IllegalArgumentException("고객을 찾을 수 없습니다: " + customerId));
@@ -193,61 +129,17 @@ public class CartService {
         );
 
         // 새로운 옵션 추가
-        if (request.getOptions() != null) {
-            for (CartAddItemRequest.OptionRequest optReq : request.getOptions()) {
-                // StorageService에서 옵션 이름에 따른 재고 소비량 조회
-                int storageConsumption = storageService.getStorageConsumption(optReq.getOptionName());
-                
-                CartItemOption cartItemOption = CartItemOption.builder()
-                        .optionId(optReq.getOptionId())
-                        .optionName(optReq.getOptionName())
-                        .optionPrice(optReq.getOptionPrice())
-                        .defaultQty(optReq.getDefaultQty())
-                        .quantity(optReq.getQuantity())
-                        .storageConsumption(storageConsumption)
-                        .build();
-                cartItem.addCartItemOption(cartItemOption);
-            }
+        for (CartItemOption cartItemOption : CartMapper.toCartItemOptions(request, storageService)) {
+            cartItem.addCartItemOption(cartItemOption);
         }
 
         CartItem savedCartItem = cartItemRepository.save(cartItem);
-
-        // 응답 생성
-        Map<String, Object> menuObj = new HashMap<>();
-        menuObj.put("menuId", savedCartItem.getMenuId());
-        menuObj.put("name", savedCartItem.getMenuName());
-        menuObj.put("quantity", savedCartItem.getQuantity());
-        menuObj.put("unitPrice", savedCartItem.getMenuPrice());
-
-        Map<String, Object> styleObj = new HashMap<>();
-        styleObj.put("styleId", savedCartItem.getStyleId());
-        styleObj.put("name", savedCartItem.getStyleName());
-        styleObj.put("price", savedCartItem.getStyleExtraPrice());
-
-        List<Map<String, Object>> optionsList = savedCartItem.getCartItemOptions().stream()
-                .map(o -> {
-                    Map<String, Object> optionMap = new HashMap<>();
-                    optionMap.put("optionId", o.getOptionId());
-                    optionMap.put("name", o.getOptionName());
-                    optionMap.put("quantity", o.getQuantity());
-                    optionMap.put("unitPrice", o.getOptionPrice());
-                    return optionMap;
-                })
-                .collect(Collectors.toList());
-
-        Map<String, Object> response = new HashMap<>();
-        response.put("cartItemId", savedCartItem.getId());
-        response.put("menu", menuObj);
-        response.put("style", styleObj);
-        response.put("options", optionsList);
-        response.put("totalAmount", savedCartItem.getItemTotalPrice());
-
-        return response;
+        return CartMapper.toItemResponse(savedCartItem.getId(), savedCartItem);
     }
 
     @Transactional
     @SuppressWarnings("null")
-    public Map<String, Object> changeOptionQuantity(
+    public CartOptionChangeResponse changeOptionQuantity(
             @NonNull Long customerId, 
             @NonNull Long cartItemId, 
             @NonNull Long optionId,
@@ -267,32 +159,19 @@ public class CartService {
         cartItemOption.updateQuantity(request.getQuantity());
         cartItemRepository.save(cartItem);
 
-        Map<String, Object> response = new HashMap<>();
-        response.put("cartItemId", cartItemId);
-        
-        Map<String, Object> optionData = new HashMap<>();
-        optionData.put("optionId", cartItemOption.getOptionId());
-        optionData.put("name", cartItemOption.getOptionName());
-        optionData.put("quantity", cartItemOption.getQuantity());
-        optionData.put("unitPrice", cartItemOption.getOptionPrice());
-        response.put("option", optionData);
-
-        response.put("itemTotal", cartItem.getItemTotalPrice());
-        
         Optional<Cart> cart = cartRepository.findByCustomer_Id(customerId);
         int totalAmount = 0;
         if (cart.isPresent()) {
             List<CartItem> items = cartItemRepository.findByCart_Id(cart.get().getId());
             totalAmount = items.stream().mapToInt(CartItem::getItemTotalPrice).sum();
         }
-        response.put("totalAmount", totalAmount);
 
-        return response;
+        return CartMapper.toOptionChangeResponse(cartItemId, cartItemOption, cartItem.getItemTotalPrice(), totalAmount);
     }
 
     @Transactional
     @SuppressWarnings("null")
-    public Map<String, Object> deleteCartItem(@NonNull Long customerId, Long cartItemId) {
+    public CartDeleteResponse deleteCartItem(@NonNull Long customerId, Long cartItemId) {
         // 고객 검증
         customerRepository.findById(customerId)
                 .orElseThrow(() -> new IllegalArgumentException("고객을 찾을 수 없습니다: " + customerId));
@@ -303,11 +182,7 @@ public class CartService {
             if (cart.isPresent()) {
                 cartRepository.delete(cart.get());
             }
-            
-            Map<String, Object> response = new HashMap<>();
-            response.put("message", "장바구니가 모두 삭제되었습니다.");
-            response.put("cartItems", List.of());
-            return response;
+            return CartDeleteResponse.cleared();
         }
 
         // 특정 아이템만 삭제
@@ -327,19 +202,10 @@ public class CartService {
 
         // 남은 장바구니 조회
         Optional<Cart> updatedCart = cartRepository.findByCustomer_Id(customerId);
-        Map<String, Object> response = new HashMap<>();
-        
         if (updatedCart.isEmpty() || updatedCart.get().getCartItems().isEmpty()) {
-            response.put("message", "장바구니 아이템이 삭제되었습니다.");
-            response.put("cartItems", List.of());
-        } else {
-            List<CartItem> remainingItems = cartItemRepository.findByCart_Id(updatedCart.get().getId());
-            
-            response.put("message", "장바구니 아이템이 삭제되었습니다.");
-            response.put("remainingItemsCount", remainingItems.size());
+            return CartDeleteResponse.itemDeleted(0);
         }
-
-        return response;
+        List<CartItem> remainingItems = cartItemRepository.findByCart_Id(updatedCart.get().getId());
+        return CartDeleteResponse.itemDeleted(remainingItems.size());
     }
 }
-
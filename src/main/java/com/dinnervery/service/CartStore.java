@@ -0,0 +1,493 @@
+package com.dinnervery.service;
+
+import com.dinnervery.entity.Cart;
+import com.dinnervery.entity.CartItem;
+import com.dinnervery.entity.CartItemOption;
+import com.dinnervery.repository.CartItemOptionRepository;
+import com.dinnervery.repository.CartItemRepository;
+import com.dinnervery.repository.CartRepository;
+import com.dinnervery.repository.CustomerRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * 고객별 장바구니 메모리 저장소 (cart.store.mode가 database가 아닐 때 원본)
+ * 고객 ID 기준 스트라이프 락으로 같은 고객의 편집만 직렬화하며, 락을 잡은 동안에는 DB I/O를 하지 않음
+ * - write-behind: 변경된 장바구니를 주기적으로 carts/cart_items에 기록 (기존 행은 제자리 갱신)
+ * - checkout: DB에 기록하지 않고 주문 시 메모리 내용으로 주문 생성 (재시작 시 장바구니 유실)
+ */
+@Slf4j
+@Service
+public class CartStore {
+
+    private static final int STRIPES = 64;
+
+    public enum Mode {
+        DATABASE,       // 메모리 저장소 미사용 (매 요청 DB 조회/저장)
+        WRITE_BEHIND,   // 메모리 원본 + 비동기 DB 기록
+        CHECKOUT        // 메모리 원본, 주문 시에만 DB 사용
+    }
+
+    private final CartRepository cartRepository;
+    private final CartItemRepository cartItemRepository;
+    private final CartItemOptionRepository cartItemOptionRepository;
+    private final CustomerRepository customerRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Mode mode;
+    private final Duration idleTimeout;
+
+    private final Map<Long, StoredCart> carts = new ConcurrentHashMap<>();
+    private final ReentrantLock[] locks = new ReentrantLock[STRIPES];
+
+    public CartStore(
+            CartRepository cartRepository,
+            CartItemRepository cartItemRepository,
+            CartItemOptionRepository cartItemOptionRepository,
+            CustomerRepository customerRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${cart.store.mode:database}") String mode,
+            @Value("${cart.store.idle-timeout:30m}") Duration idleTimeout) {
+        this.cartRepository = cartRepository;
+        this.cartItemRepository = cartItemRepository;
+        this.cartItemOptionRepository = cartItemOptionRepository;
+        this.customerRepository = customerRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.mode = Mode.valueOf(mode.trim().toUpperCase().replace('-', '_'));
+        this.idleTimeout = idleTimeout;
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * 메모리 장바구니 한 개 (항상 해당 고객의 스트라이프 락 안에서만 접근)
+     * 아이템은 영속화되지 않은 CartItem으로 보관하여 가격 계산 로직을 엔티티와 공유하고,
+     * 아이템 ID는 장바구니 안에서만 유일한 번호를 사용
+     */
+    public static class StoredCart {
+
+        private Long cartId;
+        private final Map<Long, CartItem> items = new LinkedHashMap<>();
+        private long nextItemId = 1;
+        private long lastAccessMillis = System.currentTimeMillis();
+
+        /**
+         * 변경할 때마다 증가하며, DB에 기록한 세대와 다르면 기록할 변경이 남은 것
+         */
+        private long generation;
+        private long persistedGeneration;
+
+        /**
+         * 아이템 번호 -> 기록된 cart_items 행 ID (기록 전 아이템은 없음)
+         */
+        private final Map<Long, Long> rowIds = new HashMap<>();
+
+        /**
+         * DB에 기록된 장바구니 ID (기록 전이면 null)
+         */
+        public Long getCartId() {
+            return cartId;
+        }
+
+        public Map<Long, CartItem> getItems() {
+            return Collections.unmodifiableMap(items);
+        }
+
+        public boolean isEmpty() {
+            return items.isEmpty();
+        }
+
+        public CartItem getItem(Long cartItemId) {
+            CartItem item = items.get(cartItemId);
+            if (item == null) {
+                throw new IllegalArgumentException("장바구니 아이템을 찾을 수 없습니다: " + cartItemId);
+            }
+            return item;
+        }
+
+        public Long addItem(CartItem item) {
+            Long cartItemId = nextItemId++;
+            items.put(cartItemId, item);
+            return cartItemId;
+        }
+
+        public void removeItem(Long cartItemId) {
+            if (items.remove(cartItemId) == null) {
+                throw new IllegalArgumentException("장바구니 아이템을 찾을 수 없습니다: " + cartItemId);
+            }
+        }
+
+        public void clear() {
+            items.clear();
+        }
+
+        public int getTotalAmount() {
+            int total = 0;
+            for (CartItem item : items.values()) {
+                total += item.getItemTotalPrice();
+            }
+            return total;
+        }
+    }
+
+    public boolean isEnabled() {
+        return mode != Mode.DATABASE;
+    }
+
+    /**
+     * 장바구니를 읽음 (메모리에 없으면 DB에서 적재)
+     */
+    public <T> T read(Long customerId, Function<StoredCart, T> action) {
+        return access(customerId, false, action);
+    }
+
+    /**
+     * 장바구니를 변경 (action이 예외 없이 끝나면 변경된 것으로 표시)
+     * action은 검증을 마친 뒤 변경해야 예외 시 일부만 바뀐 상태가 남지 않음
+     */
+    public <T> T update(Long customerId, Function<StoredCart, T> action) {
+        return access(customerId, true, action);
+    }
+
+    /**
+     * 주문용으로 장바구니 아이템을 꺼내고 빈 장바구니로 교체
+     * 현재 트랜잭션이 롤백되면 꺼낸 장바구니를 되돌림
+     */
+    public List<CartItem> take(Long customerId) {
+        ReentrantLock lock = lockFor(customerId);
+        StoredCart fresh = preload(customerId);
+        lock.lock();
+        try {
+            StoredCart cart = installed(customerId, fresh);
+            if (cart.isEmpty()) {
+                throw new IllegalArgumentException("장바구니가 비어있습니다. 주문할 상품을 장바구니에 담아주세요.");
+            }
+            StoredCart emptied = new StoredCart();
+            emptied.cartId = cart.cartId;
+            emptied.generation = 1;
+            carts.put(customerId, emptied);
+
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        if (status != STATUS_COMMITTED) {
+                            restore(customerId, emptied, cart);
+                        }
+                    }
+                });
+            }
+            return new ArrayList<>(cart.items.values());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 오래 사용하지 않은 장바구니를 메모리에서 제거하고, write-behind 모드면 변경된 장바구니를 DB에 기록
+     * write-behind 모드는 기록이 끝난 장바구니만 제거하고, checkout 모드는 DB에 기록하지 않으므로 그대로 버림
+     * 락 안에서는 스냅숏만 만들고 DB 기록은 락 밖에서 하므로 기록 중에도 같은 고객의 편집이 막히지 않음
+     * 기록하는 동안 바뀐 장바구니는 세대가 달라 다음 주기에 다시 기록됨
+     * (스케줄러와 종료 시 기록이 겹치지 않도록 flush끼리는 직렬화)
+     */
+    @Scheduled(fixedDelayString = "${cart.store.flush-interval:1000}")
+    public synchronized void flush() {
+        if (mode == Mode.DATABASE) {
+            return;
+        }
+        long idleBefore = System.currentTimeMillis() - idleTimeout.toMillis();
+        for (Long customerId : carts.keySet()) {
+            ReentrantLock lock = lockFor(customerId);
+            StoredCart cart;
+            Snapshot snapshot = null;
+            lock.lock();
+            try {
+                cart = carts.get(customerId);
+                if (cart == null) {
+                    continue;
+                }
+                if (mode == Mode.WRITE_BEHIND && cart.generation != cart.persistedGeneration) {
+                    snapshot = new Snapshot(cart);
+                } else if (cart.lastAccessMillis < idleBefore) {
+                    carts.remove(customerId);
+                }
+            } finally {
+                lock.unlock();
+            }
+            if (snapshot == null) {
+                continue;
+            }
+
+            Persisted persisted;
+            try {
+                persisted = persist(customerId, snapshot);
+            } catch (RuntimeException e) {
+                log.error("장바구니 기록 실패: customerId={}", customerId, e);
+                continue;
+            }
+
+            lock.lock();
+            try {
+                // 그 사이 주문으로 교체된 장바구니에는 반영하지 않음 (교체된 장바구니가 다음 주기에 기록됨)
+                if (carts.get(customerId) == cart) {
+                    cart.cartId = persisted.cartId;
+                    cart.persistedGeneration = snapshot.generation;
+                    cart.rowIds.clear();
+                    persisted.rowIds.forEach((itemId, rowId) -> {
+                        if (cart.items.containsKey(itemId)) {
+                            cart.rowIds.put(itemId, rowId);
+                        }
+                    });
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private <T> T access(Long customerId, boolean write, Function<StoredCart, T> action) {
+        ReentrantLock lock = lockFor(customerId);
+        StoredCart fresh = preload(customerId);
+        lock.lock();
+        try {
+            StoredCart cart = installed(customerId, fresh);
+            cart.lastAccessMillis = System.currentTimeMillis();
+            T result = action.apply(cart);
+            if (write) {
+                cart.generation++;
+            }
+            return result;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void restore(Long customerId, StoredCart emptied, StoredCart taken) {
+        ReentrantLock lock = lockFor(customerId);
+        lock.lock();
+        try {
+            // 주문 실패 사이에 새로 담은 아이템이 없을 때만 되돌림
+            StoredCart current = carts.get(customerId);
+            if (current == null || (current == emptied && current.isEmpty())) {
+                taken.generation = Math.max(taken.generation, taken.persistedGeneration) + 1;
+                carts.put(customerId, taken);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 메모리에 없으면 락을 잡기 전에 DB에서 미리 적재
+     */
+    private StoredCart preload(Long customerId) {
+        return carts.containsKey(customerId) ? null : load(customerId);
+    }
+
+    /**
+     * 락 안에서 메모리 장바구니를 꺼냄 (다른 스레드가 먼저 적재했으면 미리 적재한 것은 버림)
+     * 확인과 락 사이에 제거된 드문 경우에만 락 안에서 적재
+     */
+    private StoredCart installed(Long customerId, StoredCart fresh) {
+        StoredCart cart = carts.get(customerId);
+        if (cart == null) {
+            cart = fresh != null ? fresh : load(customerId);
+            carts.put(customerId, cart);
+        }
+        return cart;
+    }
+
+    /**
+     * 메모리에 없는 장바구니를 DB에서 적재 (고객당 최초 1회)
+     */
+    private StoredCart load(Long customerId) {
+        return transactionTemplate.execute(status -> {
+            if (!customerRepository.existsById(customerId)) {
+                throw new IllegalArgumentException("고객을 찾을 수 없습니다: " + customerId);
+            }
+            StoredCart stored = new StoredCart();
+            Optional<Cart> cart = cartRepository.findByCustomer_Id(customerId);
+            if (cart.isPresent()) {
+                stored.cartId = cart.get().getId();
+                for (CartItem item : cart.get().getCartItems()) {
+                    stored.items.put(item.getId(), copyOf(item));
+                    stored.rowIds.put(item.getId(), item.getId());
+                    stored.nextItemId = Math.max(stored.nextItemId, item.getId() + 1);
+                }
+            }
+            return stored;
+        });
+    }
+
+    /**
+     * 스냅숏을 carts/cart_items에 기록
+     * 기록된 아이템 행은 제자리에서 갱신하고, 새 아이템만 INSERT, 빠진 아이템만 DELETE (장바구니 행과 ID는 유지)
+     * 빈 장바구니면 행을 모두 삭제
+     */
+    private Persisted persist(Long customerId, Snapshot snapshot) {
+        Map<Long, CartItem> inserted = new HashMap<>();
+        Map<Long, Long> rowIds = new HashMap<>();
+        Long cartId = transactionTemplate.execute(status -> {
+            Optional<Cart> existing = cartRepository.findByCustomer_Id(customerId);
+            if (snapshot.items.isEmpty()) {
+                existing.ifPresent(cart -> {
+                    cartItemOptionRepository.deleteAllByCartId(cart.getId());
+                    cartItemRepository.deleteAllByCartId(cart.getId());
+                    cartRepository.deleteByIdInBulk(cart.getId());
+                });
+                return null;
+            }
+
+            Cart cart = existing.orElseGet(() -> Cart.builder()
+                    .customer(customerRepository.getReferenceById(customerId))
+                    .build());
+            Map<Long, CartItem> rows = new HashMap<>();
+            for (CartItem row : cart.getCartItems()) {
+                rows.put(row.getId(), row);
+            }
+            snapshot.items.forEach((itemId, item) -> {
+                Long rowId = snapshot.rowIds.get(itemId);
+                CartItem row = rowId == null ? null : rows.remove(rowId);
+                if (row != null && sameMenu(row, item)) {
+                    syncRow(row, item);
+                    rowIds.put(itemId, rowId);
+                } else {
+                    if (row != null) {
+                        rows.put(rowId, row);
+                    }
+                    CartItem copy = copyOf(item);
+                    cart.addCartItem(copy);
+                    inserted.put(itemId, copy);
+                }
+            });
+            rows.values().forEach(cart::removeCartItem);
+
+            return existing.isPresent() ? cart.getId() : cartRepository.save(cart).getId();
+        });
+        // 새 행의 ID는 커밋(flush) 시 할당됨
+        inserted.forEach((itemId, row) -> {
+            if (row.getId() != null) {
+                rowIds.put(itemId, row.getId());
+            }
+        });
+        return new Persisted(cartId, rowIds);
+    }
+
+    private static boolean sameMenu(CartItem row, CartItem item) {
+        return Objects.equals(row.getMenuId(), item.getMenuId())
+                && Objects.equals(row.getMenuName(), item.getMenuName())
+                && row.getMenuPrice() == item.getMenuPrice();
+    }
+
+    /**
+     * 기록된 행을 메모리 아이템과 같게 맞춤 (값이 같은 컬럼은 dirty checking에서 제외되어 UPDATE 되지 않음)
+     */
+    private static void syncRow(CartItem row, CartItem item) {
+        if (!Objects.equals(row.getStyleId(), item.getStyleId())
+                || !Objects.equals(row.getStyleName(), item.getStyleName())
+                || row.getStyleExtraPrice() != item.getStyleExtraPrice()) {
+            row.setStyle(item.getStyleId(), item.getStyleName(), item.getStyleExtraPrice());
+        }
+        if (!Objects.equals(row.getQuantity(), item.getQuantity())) {
+            row.updateQuantity(item.getQuantity());
+        }
+
+        Map<Long, CartItemOption> rowOptions = new HashMap<>();
+        for (CartItemOption option : row.getCartItemOptions()) {
+            rowOptions.put(option.getOptionId(), option);
+        }
+        for (CartItemOption option : item.getCartItemOptions()) {
+            CartItemOption rowOption = rowOptions.remove(option.getOptionId());
+            if (rowOption == null) {
+                row.addCartItemOption(copyOf(option));
+            } else if (!Objects.equals(rowOption.getQuantity(), option.getQuantity())) {
+                rowOption.updateQuantity(option.getQuantity());
+            }
+        }
+        rowOptions.values().forEach(row::removeCartItemOption);
+    }
+
+    private static CartItem copyOf(CartItem source) {
+        CartItem copy = CartItem.builder()
+                .menuId(source.getMenuId())
+                .menuName(source.getMenuName())
+                .menuPrice(source.getMenuPrice())
+                .styleId(source.getStyleId())
+                .styleName(source.getStyleName())
+                .styleExtraPrice(source.getStyleExtraPrice())
+                .quantity(source.getQuantity())
+                .build();
+        for (CartItemOption option : source.getCartItemOptions()) {
+            copy.addCartItemOption(copyOf(option));
+        }
+        return copy;
+    }
+
+    private static CartItemOption copyOf(CartItemOption source) {
+        return CartItemOption.builder()
+                .optionId(source.getOptionId())
+                .optionName(source.getOptionName())
+                .optionPrice(source.getOptionPrice())
+                .defaultQty(source.getDefaultQty())
+                .quantity(source.getQuantity())
+                .storageRecipe(source.getStorageRecipe())
+                .build();
+    }
+
+    /**
+     * 락 안에서 복사한 기록 대상 (락 밖에서 읽어도 편집과 겹치지 않음)
+     */
+    private static final class Snapshot {
+
+        private final long generation;
+        private final Map<Long, CartItem> items;
+        private final Map<Long, Long> rowIds;
+
+        private Snapshot(StoredCart cart) {
+            this.generation = cart.generation;
+            this.items = new LinkedHashMap<>();
+            cart.items.forEach((itemId, item) -> items.put(itemId, copyOf(item)));
+            this.rowIds = new HashMap<>(cart.rowIds);
+        }
+    }
+
+    private static final class Persisted {
+
+        private final Long cartId;
+        private final Map<Long, Long> rowIds;
+
+        private Persisted(Long cartId, Map<Long, Long> rowIds) {
+            this.cartId = cartId;
+            this.rowIds = rowIds;
+        }
+    }
+
+    private ReentrantLock lockFor(Long customerId) {
+        return locks[Long.hashCode(customerId) & (STRIPES - 1)];
+    }
+}
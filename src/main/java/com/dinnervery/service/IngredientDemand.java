@@ -0,0 +1,48 @@
+package com.dinnervery.service;
+
+import java.util.Arrays;
+
+/**
+ * 주문 옵션들의 재고 소비량을 재고 이름별로 합산한 결과
+ * 재료 종류가 몇 개뿐이므로 해시 맵 대신 기본형 배열과 선형 탐색을 사용
+ */
+public class IngredientDemand {
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    private String[] names = new String[INITIAL_CAPACITY];
+    private int[] units = new int[INITIAL_CAPACITY];
+    private int size;
+
+    public void add(String storageName, int amount) {
+        for (int i = 0; i < size; i++) {
+            if (names[i].equals(storageName)) {
+                units[i] += amount;
+                return;
+            }
+        }
+        if (size == names.length) {
+            names = Arrays.copyOf(names, size * 2);
+            units = Arrays.copyOf(units, size * 2);
+        }
+        names[size] = storageName;
+        units[size] = amount;
+        size++;
+    }
+
+    public String nameAt(int index) {
+        return names[index];
+    }
+
+    public int unitsAt(int index) {
+        return units[index];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+}
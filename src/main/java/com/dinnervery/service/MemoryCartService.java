@@ -0,0 +1,100 @@
+package com.dinnervery.service;
+
+import com.dinnervery.dto.cart.request.CartAddItemRequest;
+import com.dinnervery.dto.cart.request.CartBatchAddRequest;
+import com.dinnervery.dto.cart.response.CartBatchAddResponse;
+import com.dinnervery.dto.cart.request.CartOptionQuantityChangeRequest;
+import com.dinnervery.dto.cart.response.CartDeleteResponse;
+import com.dinnervery.dto.cart.response.CartItemResponse;
+import com.dinnervery.dto.cart.response.CartOptionChangeResponse;
+import com.dinnervery.dto.cart.response.CartResponse;
+import com.dinnervery.entity.CartItem;
+import com.dinnervery.entity.CartItemOption;
+import lombok.RequiredArgsConstructor;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 메모리 장바구니(CartStore) 기반 장바구니 API (cart.store.mode가 write-behind/checkout일 때 사용)
+ * CartService와 같은 응답을 반환하며, 트랜잭션/DB 커넥션 없이 고객별 락 안에서만 처리
+ */
+@Service
+@RequiredArgsConstructor
+public class MemoryCartService {
+
+    private final CartStore cartStore;
+    private final StorageService storageService;
+
+    public CartItemResponse addItemToCart(@NonNull Long customerId, CartAddItemRequest request) {
+        CartItem cartItem = CartMapper.toCartItem(request);
+        for (CartItemOption cartItemOption : CartMapper.toCartItemOptions(request, storageService)) {
+            cartItem.addCartItemOption(cartItemOption);
+        }
+
+        return cartStore.update(customerId, cart -> {
+            Long cartItemId = cart.addItem(cartItem);
+            return CartMapper.toItemResponse(cartItemId, cartItem);
+        });
+    }
+
+    /**
+     * 여러 아이템을 한 번의 락 안에서 추가
+     */
+    public CartBatchAddResponse addItemsToCart(@NonNull Long customerId, CartBatchAddRequest request) {
+        List<CartItem> cartItems = CartMapper.toCartItems(request, storageService);
+
+        return cartStore.update(customerId, cart -> {
+            Map<Long, CartItem> added = new LinkedHashMap<>();
+            for (CartItem cartItem : cartItems) {
+                added.put(cart.addItem(cartItem), cartItem);
+            }
+            return CartMapper.toBatchAddResponse(added, cart.getTotalAmount());
+        });
+    }
+
+    public CartResponse getCart(@NonNull Long customerId) {
+        return cartStore.read(customerId,
+                cart -> CartMapper.toCartResponse(cart.getCartId(), customerId, cart.getItems()));
+    }
+
+    public CartOptionChangeResponse changeOptionQuantity(
+            @NonNull Long customerId,
+            @NonNull Long cartItemId,
+            @NonNull Long optionId,
+            CartOptionQuantityChangeRequest request) {
+        if (request.getQuantity() == null || request.getQuantity() < 1) {
+            throw new IllegalArgumentException("수량은 1 이상이어야 합니다.");
+        }
+
+        return cartStore.update(customerId, cart -> {
+            CartItem cartItem = cart.getItem(cartItemId);
+            CartItemOption cartItemOption = cartItem.getCartItemOptions().stream()
+                    .filter(option -> option.getOptionId().equals(optionId))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("장바구니 옵션을 찾을 수 없습니다: " + optionId));
+
+            cartItemOption.updateQuantity(request.getQuantity());
+            return CartMapper.toOptionChangeResponse(cartItemId, cartItemOption,
+                    cartItem.getItemTotalPrice(), cart.getTotalAmount());
+        });
+    }
+
+    public CartDeleteResponse deleteCartItem(@NonNull Long customerId, Long cartItemId) {
+        // cartItemId가 0이거나 null이면 전체 장바구니 삭제
+        if (cartItemId == null || cartItemId == 0) {
+            return cartStore.update(customerId, cart -> {
+                cart.clear();
+                return CartDeleteResponse.cleared();
+            });
+        }
+
+        return cartStore.update(customerId, cart -> {
+            cart.removeItem(cartItemId);
+            return CartDeleteResponse.itemDeleted(cart.getItems().size());
+        });
+    }
+}
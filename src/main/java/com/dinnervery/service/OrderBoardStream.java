@@ -0,0 +1,126 @@
+package com.dinnervery.service;
+
+import com.dinnervery.entity.Order;
+import com.dinnervery.event.OrderBoardEvent;
+import com.dinnervery.event.OrderSnapshot;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.concurrent.Queues;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.function.Function;
+
+/**
+ * 요리사/배달원 현황판 SSE 스트림
+ * 구독 시 현재 목록을 한 번 보내고, 이후에는 커밋된 주문 변경만 push
+ */
+@Service
+@RequiredArgsConstructor
+public class OrderBoardStream {
+
+    private static final Duration HEARTBEAT_INTERVAL = Duration.ofSeconds(15);
+    private static final Duration EMIT_RETRY_TIMEOUT = Duration.ofMillis(100);
+    private static final int SUBSCRIBER_BUFFER_SIZE = 1024;
+    // 순서가 뒤바뀐 이벤트는 커밋 직후에만 도착하므로 보낸 상태는 이 시간만 기억
+    private static final Duration SENT_STATUS_TTL = Duration.ofMinutes(30);
+    private static final long SENT_STATUS_MAX_SIZE = 10_000;
+
+    private final OrderService orderService;
+
+    private final Sinks.Many<OrderSnapshot> cookingSink = Sinks.many().multicast().directBestEffort();
+    private final Sinks.Many<OrderSnapshot> deliverySink = Sinks.many().multicast().directBestEffort();
+
+    public Flux<ServerSentEvent<Object>> cookingBoard() {
+        return board(orderService::getCookingOrders, cookingSink, OrderSnapshot::toCookingSummary);
+    }
+
+    public Flux<ServerSentEvent<Object>> deliveryBoard() {
+        return board(orderService::getDeliveryOrders, deliverySink, OrderSnapshot::toDeliverySummary);
+    }
+
+    /**
+     * 커밋된 주문 변경을 관련 현황판으로 전달
+     * 상태가 현황판 범위를 벗어난 주문도 한 번 전달하여 클라이언트가 목록에서 제거하도록 함
+     */
+    @TransactionalEventListener
+    public void onOrderBoardEvent(OrderBoardEvent event) {
+        if (event.touches(Order.Status.REQUESTED, Order.Status.COOKING)) {
+            cookingSink.emitNext(event.getOrder(), Sinks.EmitFailureHandler.busyLooping(EMIT_RETRY_TIMEOUT));
+        }
+        if (event.touches(Order.Status.COOKED, Order.Status.DELIVERING)) {
+            deliverySink.emitNext(event.getOrder(), Sinks.EmitFailureHandler.busyLooping(EMIT_RETRY_TIMEOUT));
+        }
+    }
+
+    /**
+     * 스냅샷 -> 변경 순서를 보장하는 현황판 스트림
+     * 변경은 구독 즉시 구독자별 버퍼에 모으고, 스냅샷을 보낸 뒤에 이어서 보냄 (스냅샷보다 먼저 도착하지 않음)
+     * 같은 주문의 이미 보낸 상태 이하의 변경은 건너뛰어 오래된 상태가 새 상태를 덮지 않게 함 (주문 상태는 앞으로만 진행)
+     * 보낸 상태는 SENT_STATUS_TTL 동안만 기억하여 현황판을 오래 열어 두어도 주문 수만큼 쌓이지 않음
+     * 버퍼가 가득 차면 변경을 버리지 않고 스트림을 오류로 끝내 클라이언트가 재연결(새 스냅샷)하도록 함
+     */
+    private Flux<ServerSentEvent<Object>> board(Callable<?> snapshotLoader,
+                                                Sinks.Many<OrderSnapshot> sink,
+                                                Function<OrderSnapshot, Object> mapper) {
+        return Flux.defer(() -> {
+            Sinks.Many<OrderSnapshot> pending = Sinks.many().unicast()
+                    .onBackpressureBuffer(Queues.<OrderSnapshot>get(SUBSCRIBER_BUFFER_SIZE).get());
+            // 공유 sink의 구독자는 이 relay뿐이며 요청량이 무제한이므로 directBestEffort에서도 유실되지 않음
+            Disposable relay = sink.asFlux().subscribe(order -> {
+                if (pending.tryEmitNext(order).isFailure()) {
+                    pending.tryEmitError(new IllegalStateException("현황판 변경 버퍼가 가득 찼습니다. 다시 연결해주세요."));
+                }
+            });
+
+            // 스냅샷 조회는 블로킹 DB 호출일 수 있으므로 별도 스케줄러에서 실행
+            Flux<ServerSentEvent<Object>> snapshot = Mono.fromCallable(snapshotLoader)
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .map(orders -> event("snapshot", orders))
+                    .flux();
+
+            Map<Long, Order.Status> sentStatuses = Caffeine.newBuilder()
+                    .expireAfterWrite(SENT_STATUS_TTL)
+                    .maximumSize(SENT_STATUS_MAX_SIZE)
+                    .<Long, Order.Status>build()
+                    .asMap();
+            Flux<ServerSentEvent<Object>> updates = pending.asFlux()
+                    .filter(order -> advances(sentStatuses, order))
+                    .map(order -> event("order", mapper.apply(order)));
+
+            Flux<ServerSentEvent<Object>> heartbeat = Flux.interval(HEARTBEAT_INTERVAL)
+                    .map(tick -> ServerSentEvent.<Object>builder().comment("keep-alive").build());
+
+            return Flux.merge(Flux.concat(snapshot, updates), heartbeat)
+                    .doFinally(signal -> relay.dispose());
+        });
+    }
+
+    /**
+     * 이 구독자에게 보낸 적 없는 더 진행된 상태일 때만 true
+     */
+    private static boolean advances(Map<Long, Order.Status> sentStatuses, OrderSnapshot order) {
+        Order.Status previous = sentStatuses.get(order.getOrderId());
+        if (previous != null && previous.compareTo(order.getStatus()) >= 0) {
+            return false;
+        }
+        sentStatuses.put(order.getOrderId(), order.getStatus());
+        return true;
+    }
+
+    private ServerSentEvent<Object> event(String name, Object data) {
+        return ServerSentEvent.<Object>builder()
+                .event(name)
+                .data(data)
+                .build();
+    }
+}
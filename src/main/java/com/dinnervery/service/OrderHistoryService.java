@@ -0,0 +1,215 @@
+package com.dinnervery.service;
+
+import com.dinnervery.dto.order.query.OrderHistoryRow;
+import com.dinnervery.dto.order.query.OrderPageKey;
+import com.dinnervery.repository.OrderRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * 고객 주문 내역 조회
+ * - 전체: 주문 x 아이템 x 옵션 평면 행을 DB 커서로 읽으면서 JsonGenerator로 바로 써서 주문 수와 관계없이 메모리 사용량이 일정함
+ * - 페이지: (created_at, id) 키셋 커서로 한 페이지씩 조회하여 내역이 늘어도 응답 시간이 일정함
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class OrderHistoryService {
+
+    private static final DateTimeFormatter ORDER_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy.MM.dd");
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final String CURSOR_DELIMITER = "|";
+
+    private final OrderRepository orderRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 한 페이지 분량의 주문 행과 다음 페이지 커서
+     */
+    @Value
+    public static class Page {
+        List<OrderHistoryRow> rows;
+        String nextCursor;
+    }
+
+    /**
+     * {"orders":[{orderId, orderDate, totalPrice, status, deliveryTime, orderItems:[{name, quantity, styleName, options:[{name, quantity}]}]}]}
+     */
+    public void writeOrderHistory(Long customerId, OutputStream out) throws IOException {
+        try (Stream<OrderHistoryRow> rows = orderRepository.streamHistoryRowsByCustomerId(customerId);
+             JsonGenerator json = objectMapper.getFactory().createGenerator(out)) {
+            json.writeStartObject();
+            json.writeArrayFieldStart("orders");
+            writeOrders(rows.iterator(), json);
+            json.writeEndArray();
+            json.writeEndObject();
+        }
+    }
+
+    /**
+     * 키셋 페이지 조회 (created_at DESC, id DESC)
+     * 1단계로 인덱스만 타는 주문 ID 페이지를 구하고, 2단계로 그 주문들의 아이템/옵션을 IN 조회
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지면 null)
+     */
+    public Page loadPage(Long customerId, String cursor, Integer size) {
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : size;
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("size는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        Limit limit = Limit.of(pageSize + 1);
+        List<OrderPageKey> keys;
+        if (cursor == null || cursor.isBlank()) {
+            keys = orderRepository.findPageKeysByCustomerId(customerId, limit);
+        } else {
+            OrderPageKey after = decodeCursor(cursor);
+            keys = orderRepository.findPageKeysByCustomerIdAfter(customerId, after.getCreatedAt(), after.getOrderId(), limit);
+        }
+
+        String nextCursor = null;
+        if (keys.size() > pageSize) {
+            keys = keys.subList(0, pageSize);
+            nextCursor = encodeCursor(keys.get(pageSize - 1));
+        }
+        if (keys.isEmpty()) {
+            return new Page(List.of(), null);
+        }
+
+        List<Long> orderIds = new ArrayList<>(keys.size());
+        for (OrderPageKey key : keys) {
+            orderIds.add(key.getOrderId());
+        }
+        return new Page(orderRepository.findHistoryRowsByOrderIdIn(orderIds), nextCursor);
+    }
+
+    /**
+     * {"orders":[...], "nextCursor": "..."} (마지막 페이지면 nextCursor는 null)
+     */
+    public void writePage(Page page, OutputStream out) throws IOException {
+        try (JsonGenerator json = objectMapper.getFactory().createGenerator(out)) {
+            json.writeStartObject();
+            json.writeArrayFieldStart("orders");
+            writeOrders(page.getRows().iterator(), json);
+            json.writeEndArray();
+            json.writeStringField("nextCursor", page.getNextCursor());
+            json.writeEndObject();
+        }
+    }
+
+    /**
+     * 커서 = Base64URL("createdAt|orderId")
+     */
+    private String encodeCursor(OrderPageKey key) {
+        String raw = key.getCreatedAt() + CURSOR_DELIMITER + key.getOrderId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private OrderPageKey decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiter = raw.indexOf(CURSOR_DELIMITER);
+            return new OrderPageKey(
+                    Long.parseLong(raw.substring(delimiter + 1)),
+                    LocalDateTime.parse(raw.substring(0, delimiter))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+        }
+    }
+
+    /**
+     * 행은 주문, 아이템 순으로 연속되어 있으므로 ID가 바뀔 때 객체를 닫고 새로 엶
+     */
+    private void writeOrders(Iterator<OrderHistoryRow> rows, JsonGenerator json) throws IOException {
+        Long currentOrderId = null;
+        Long currentItemId = null;
+        while (rows.hasNext()) {
+            OrderHistoryRow row = rows.next();
+
+            if (!row.getOrderId().equals(currentOrderId)) {
+                if (currentOrderId != null) {
+                    closeItem(json);
+                    closeOrder(json);
+                }
+                openOrder(row, json);
+                currentOrderId = row.getOrderId();
+                currentItemId = null;
+            }
+
+            if (!row.getOrderItemId().equals(currentItemId)) {
+                if (currentItemId != null) {
+                    closeItem(json);
+                }
+                openItem(row, json);
+                currentItemId = row.getOrderItemId();
+            }
+
+            if (row.getOptionName() != null) {
+                json.writeStartObject();
+                json.writeStringField("name", row.getOptionName());
+                writeNumberOrNull(json, "quantity", row.getOptionQuantity());
+                json.writeEndObject();
+            }
+        }
+        if (currentOrderId != null) {
+            closeItem(json);
+            closeOrder(json);
+        }
+    }
+
+    private void openOrder(OrderHistoryRow row, JsonGenerator json) throws IOException {
+        json.writeStartObject();
+        json.writeNumberField("orderId", row.getOrderId());
+        json.writeStringField("orderDate", row.getCreatedAt().format(ORDER_DATE_FORMAT));
+        json.writeNumberField("totalPrice", row.getTotalPrice());
+        json.writeStringField("status", row.getStatus().name());
+        json.writeStringField("deliveryTime", Objects.toString(row.getDeliveryTime(), null));
+        json.writeArrayFieldStart("orderItems");
+    }
+
+    private void closeOrder(JsonGenerator json) throws IOException {
+        json.writeEndArray();
+        json.writeEndObject();
+    }
+
+    private void openItem(OrderHistoryRow row, JsonGenerator json) throws IOException {
+        json.writeStartObject();
+        json.writeStringField("name", row.getMenuName());
+        writeNumberOrNull(json, "quantity", row.getQuantity());
+        json.writeStringField("styleName", row.getStyleName());
+        json.writeArrayFieldStart("options");
+    }
+
+    private void closeItem(JsonGenerator json) throws IOException {
+        json.writeEndArray();
+        json.writeEndObject();
+    }
+
+    private void writeNumberOrNull(JsonGenerator json, String field, Integer value) throws IOException {
+        if (value == null) {
+            json.writeNullField(field);
+        } else {
+            json.writeNumberField(field, value);
+        }
+    }
+}
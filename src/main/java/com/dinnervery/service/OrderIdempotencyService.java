@@ -0,0 +1,164 @@
+package com.dinnervery.service;
+
+import com.dinnervery.common.UnprocessableEntityException;
+import com.dinnervery.dto.order.request.OrderCreateRequest;
+import com.dinnervery.entity.OrderIdempotencyKey;
+import com.dinnervery.repository.OrderIdempotencyKeyRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Idempotency-Key 기반 주문 생성 중복 제거
+ * 같은 고객의 같은 키로 같은 요청을 재시도하면 최초 응답(JSON)을 그대로 반환하고,
+ * 동시에 들어온 중복 요청은 먼저 시작된 처리 결과를 함께 기다림
+ * 키는 최초 요청 본문의 해시에 묶이므로 같은 키로 내용이 다른 요청을 보내면 422
+ */
+@Service
+public class OrderIdempotencyService {
+
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private final OrderService orderService;
+    private final OrderIdempotencyKeyRepository orderIdempotencyKeyRepository;
+    private final ObjectMapper objectMapper;
+    private final Cache<String, Stored> responses;
+    private final ConcurrentHashMap<String, InFlight> inFlight = new ConcurrentHashMap<>();
+
+    public OrderIdempotencyService(
+            OrderService orderService,
+            OrderIdempotencyKeyRepository orderIdempotencyKeyRepository,
+            ObjectMapper objectMapper,
+            @Value("${orders.idempotency.cache-size:10000}") long cacheSize,
+            @Value("${orders.idempotency.cache-ttl:24h}") Duration cacheTtl) {
+        this.orderService = orderService;
+        this.orderIdempotencyKeyRepository = orderIdempotencyKeyRepository;
+        this.objectMapper = objectMapper;
+        this.responses = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(cacheTtl)
+                .build();
+    }
+
+    /**
+     * 키에 묶인 최초 요청 해시와 응답 JSON
+     */
+    @lombok.Value
+    private static class Stored {
+        String requestHash;
+        byte[] response;
+    }
+
+    @lombok.Value
+    private static class InFlight {
+        String requestHash;
+        CompletableFuture<byte[]> response;
+    }
+
+    /**
+     * @return 주문 생성 응답 JSON (최초 요청이든 재시도든 동일)
+     */
+    public byte[] createOrder(String idempotencyKey, OrderCreateRequest request) {
+        if (idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency-Key는 " + MAX_KEY_LENGTH + "자 이하여야 합니다.");
+        }
+
+        String requestHash = hash(request);
+        String cacheKey = request.getCustomerId() + ":" + idempotencyKey;
+        Stored cached = responses.getIfPresent(cacheKey);
+        if (cached != null) {
+            return replay(cached, requestHash);
+        }
+
+        InFlight mine = new InFlight(requestHash, new CompletableFuture<>());
+        InFlight running = inFlight.putIfAbsent(cacheKey, mine);
+        if (running != null) {
+            requireSameRequest(running.getRequestHash(), requestHash);
+            return await(running.getResponse());
+        }
+
+        try {
+            Stored stored = loadOrCreate(idempotencyKey, request, requestHash);
+            responses.put(cacheKey, stored);
+            byte[] response = replay(stored, requestHash);
+            mine.getResponse().complete(response);
+            return response;
+        } catch (RuntimeException e) {
+            mine.getResponse().completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(cacheKey, mine);
+        }
+    }
+
+    private Stored loadOrCreate(String idempotencyKey, OrderCreateRequest request, String requestHash) {
+        Optional<Stored> stored = findStored(request.getCustomerId(), idempotencyKey);
+        if (stored.isPresent()) {
+            return stored.get();
+        }
+
+        try {
+            String response = orderService.createOrder(request, idempotencyKey, requestHash);
+            return new Stored(requestHash, response.getBytes(StandardCharsets.UTF_8));
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 같은 키로 먼저 커밋한 경우 그 응답을 사용
+            return findStored(request.getCustomerId(), idempotencyKey).orElseThrow(() -> e);
+        }
+    }
+
+    private Optional<Stored> findStored(Long customerId, String idempotencyKey) {
+        return orderIdempotencyKeyRepository.findByCustomerIdAndIdempotencyKey(customerId, idempotencyKey)
+                .map(key -> new Stored(key.getRequestHash(), key.getResponse().getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private byte[] replay(Stored stored, String requestHash) {
+        // 해시 도입 이전에 저장된 키는 비교할 수 없으므로 그대로 재생
+        if (stored.getRequestHash() != null) {
+            requireSameRequest(stored.getRequestHash(), requestHash);
+        }
+        return stored.getResponse();
+    }
+
+    private void requireSameRequest(String firstHash, String requestHash) {
+        if (!firstHash.equals(requestHash)) {
+            throw new UnprocessableEntityException("같은 Idempotency-Key로 내용이 다른 주문을 보낼 수 없습니다. 새 키를 사용해주세요.");
+        }
+    }
+
+    /**
+     * 요청 본문의 SHA-256 (DTO 필드 순서로 직렬화한 JSON 기준)
+     */
+    private String hash(OrderCreateRequest request) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(request));
+            return HexFormat.of().formatHex(digest);
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("주문 요청 해시 계산에 실패했습니다.", e);
+        }
+    }
+
+    private byte[] await(CompletableFuture<byte[]> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,295 @@
+package com.dinnervery.service;
+
+import com.dinnervery.common.TooManyRequestsException;
+import com.dinnervery.dto.order.command.OrderCommand;
+import com.dinnervery.dto.order.request.OrderCreateRequest;
+import com.dinnervery.dto.order.response.OrderIntakeResponse;
+import com.dinnervery.dto.order.response.OrderResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 비동기 주문 접수 파이프라인 (orders.intake.mode=async)
+ * 요청 스레드는 장바구니를 불변 주문 명령으로 복사/비운 뒤 제한된 큐에 넣고 바로 반환하며,
+ * 고정 개수의 워커가 큐를 비우면서 주문을 작은 묶음 단위로 한 트랜잭션에 저장
+ * 끝내 저장하지 못한 주문은 장바구니에 다시 담음
+ */
+@Slf4j
+@Service
+public class OrderIntakeService {
+
+    private static final long POLL_TIMEOUT_MILLIS = 500;
+
+    private final OrderService orderService;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean async;
+    private final int workers;
+    private final int batchSize;
+    private final Duration shutdownTimeout;
+
+    private final BlockingQueue<Ticket> queue;
+
+    /**
+     * 큐 자리 예약용. 장바구니를 비우기 전에 자리를 먼저 확보해야 큐가 가득 찼을 때 장바구니를 잃지 않음
+     */
+    private final Semaphore slots;
+
+    private final Cache<String, Tracked> statuses;
+    private final Timer waitTimer;
+    private final Counter rejectedCounter;
+
+    /**
+     * 접수(읽기 락)와 종료(쓰기 락)를 배타적으로 실행
+     * 종료가 running을 내린 뒤에는 새 명령이 큐에 들어오지 않으므로 워커는 큐가 빌 때까지만 돌면 됨
+     */
+    private final ReadWriteLock intakeLock = new ReentrantReadWriteLock();
+
+    private ExecutorService executor;
+    private volatile boolean running;
+
+    public OrderIntakeService(
+            OrderService orderService,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${orders.intake.mode:sync}") String mode,
+            @Value("${orders.intake.queue-capacity:1000}") int queueCapacity,
+            @Value("${orders.intake.workers:4}") int workers,
+            @Value("${orders.intake.batch-size:20}") int batchSize,
+            @Value("${orders.intake.status-ttl:30m}") Duration statusTtl,
+            @Value("${orders.intake.shutdown-timeout:30s}") Duration shutdownTimeout) {
+        this.orderService = orderService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.async = "async".equalsIgnoreCase(mode);
+        this.workers = workers;
+        this.batchSize = batchSize;
+        this.shutdownTimeout = shutdownTimeout;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.slots = new Semaphore(queueCapacity);
+        this.statuses = Caffeine.newBuilder()
+                .expireAfterWrite(statusTtl)
+                .build();
+
+        Gauge.builder("orders.intake.queue.depth", queue, BlockingQueue::size)
+                .description("비동기 주문 접수 큐 대기 건수")
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder("orders.intake.wait")
+                .description("주문 명령이 큐에서 대기한 시간")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("orders.intake.rejected")
+                .description("큐가 가득 차 거절된 주문 접수 건수")
+                .register(meterRegistry);
+    }
+
+    @lombok.Value
+    private static class Ticket {
+        String trackingId;
+        OrderCommand command;
+        long enqueuedAtNanos;
+    }
+
+    @lombok.Value
+    private static class Tracked {
+        Long customerId;
+        OrderIntakeResponse response;
+    }
+
+    public boolean isAsync() {
+        return async;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!async) {
+            return;
+        }
+        AtomicInteger sequence = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "order-intake-" + sequence.incrementAndGet());
+            thread.setDaemon(false);
+            return thread;
+        });
+        running = true;
+        for (int i = 0; i < workers; i++) {
+            executor.execute(this::drain);
+        }
+        log.info("비동기 주문 접수 시작: workers={}, batchSize={}", workers, batchSize);
+    }
+
+    /**
+     * 종료 시 새 접수를 막고 큐에 남은 명령을 모두 저장한 뒤 워커를 정리
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (executor == null) {
+            return;
+        }
+        intakeLock.writeLock().lock();
+        try {
+            running = false;
+        } finally {
+            intakeLock.writeLock().unlock();
+        }
+        executor.shutdown();
+        if (!executor.awaitTermination(shutdownTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+            log.error("주문 접수 큐를 모두 처리하지 못하고 종료합니다. 남은 건수={}", queue.size());
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 장바구니를 주문 명령으로 바꿔 큐에 넣고 추적 ID를 반환
+     * @throws TooManyRequestsException 큐가 가득 찬 경우
+     */
+    public OrderIntakeResponse submit(OrderCreateRequest request) {
+        intakeLock.readLock().lock();
+        try {
+            if (!running || !slots.tryAcquire()) {
+                rejectedCounter.increment();
+                throw new TooManyRequestsException("주문이 많아 접수할 수 없습니다. 잠시 후 다시 시도해주세요.");
+            }
+
+            OrderCommand command;
+            try {
+                command = orderService.takeCart(request);
+            } catch (RuntimeException e) {
+                slots.release();
+                throw e;
+            }
+
+            Ticket ticket = new Ticket(UUID.randomUUID().toString(), command, System.nanoTime());
+            OrderIntakeResponse response = OrderIntakeResponse.queued(ticket.getTrackingId());
+            statuses.put(ticket.getTrackingId(), new Tracked(command.getCustomerId(), response));
+            // 자리를 미리 확보했으므로 항상 성공
+            queue.add(ticket);
+            return response;
+        } finally {
+            intakeLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 접수 상태 조회 (본인 접수 건만)
+     */
+    public OrderIntakeResponse getStatus(String trackingId, Long customerId) {
+        Tracked tracked = statuses.getIfPresent(trackingId);
+        if (tracked == null || !tracked.getCustomerId().equals(customerId)) {
+            throw new IllegalArgumentException("주문 접수 내역을 찾을 수 없습니다: " + trackingId);
+        }
+        return tracked.getResponse();
+    }
+
+    private void drain() {
+        List<Ticket> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Ticket first = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                slots.release(batch.size());
+                process(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("주문 접수 워커 오류", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 묶음을 한 트랜잭션으로 저장하고, 실패하면 문제 건만 실패 처리되도록 건별로 다시 저장
+     */
+    private void process(List<Ticket> batch) {
+        long now = System.nanoTime();
+        for (Ticket ticket : batch) {
+            waitTimer.record(now - ticket.getEnqueuedAtNanos(), TimeUnit.NANOSECONDS);
+        }
+
+        List<OrderResponse> placed;
+        try {
+            placed = transactionTemplate.execute(status -> {
+                List<OrderResponse> responses = new ArrayList<>(batch.size());
+                for (Ticket ticket : batch) {
+                    responses.add(orderService.placeOrder(ticket.getCommand()));
+                }
+                return responses;
+            });
+        } catch (RuntimeException e) {
+            if (batch.size() > 1) {
+                log.warn("주문 일괄 저장 실패, 건별로 다시 저장합니다: {}", e.getMessage());
+                batch.forEach(this::processOne);
+            } else {
+                fail(batch.get(0), e);
+            }
+            return;
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            complete(batch.get(i), placed.get(i));
+        }
+    }
+
+    private void processOne(Ticket ticket) {
+        try {
+            complete(ticket, orderService.placeOrder(ticket.getCommand()));
+        } catch (RuntimeException e) {
+            fail(ticket, e);
+        }
+    }
+
+    private void complete(Ticket ticket, OrderResponse order) {
+        statuses.put(ticket.getTrackingId(), new Tracked(ticket.getCommand().getCustomerId(),
+                OrderIntakeResponse.completed(ticket.getTrackingId(), order.getOrderId())));
+    }
+
+    /**
+     * 장바구니는 접수 시 이미 비웠으므로 명령의 아이템을 장바구니에 다시 담음
+     * 복구까지 실패하면 수동으로 복구할 수 있도록 명령 전체를 남김
+     */
+    private void fail(Ticket ticket, RuntimeException e) {
+        String message;
+        try {
+            orderService.restoreCart(ticket.getCommand());
+            log.error("주문 저장 실패, 장바구니 복구: trackingId={}", ticket.getTrackingId(), e);
+            message = "주문 저장에 실패했습니다. 장바구니를 확인하고 다시 주문해주세요.";
+        } catch (RuntimeException restoreFailure) {
+            e.addSuppressed(restoreFailure);
+            log.error("주문 저장 및 장바구니 복구 실패: trackingId={}, command={}",
+                    ticket.getTrackingId(), ticket.getCommand(), e);
+            message = "주문 저장에 실패했습니다.";
+        }
+        statuses.put(ticket.getTrackingId(), new Tracked(ticket.getCommand().getCustomerId(),
+                OrderIntakeResponse.failed(ticket.getTrackingId(), message)));
+    }
+}
@@ -5,17 +5,28 @@ import com.dinnervery.dto.order.response.OrderListResponse;
 import com.dinnervery.dto.order.response.DeliveryOrderListResponse;
 import com.dinnervery.dto.order.response.OrderUpdateResponse;
 import com.dinnervery.dto.order.request.OrderCreateRequest;
+import com.dinnervery.dto.order.command.OrderCommand;
+import com.dinnervery.dto.order.query.OrderBoardRow;
 import com.dinnervery.entity.*;
+import com.dinnervery.event.OrderBoardEvent;
+import com.dinnervery.event.OrderSnapshot;
+import com.dinnervery.repository.CartItemOptionRepository;
+import com.dinnervery.repository.CartItemRepository;
 import com.dinnervery.repository.CartRepository;
 import com.dinnervery.repository.CustomerRepository;
+import com.dinnervery.repository.OrderIdempotencyKeyRepository;
 import com.dinnervery.repository.OrderRepository;
 import com.dinnervery.service.StorageService;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -28,12 +39,36 @@ public class OrderService {
     private final OrderRepository orderRepository;
     private final CustomerRepository customerRepository;
     private final CartRepository cartRepository;
+    private final CartItemRepository cartItemRepository;
+    private final CartItemOptionRepository cartItemOptionRepository;
     private final StorageService storageService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ActiveOrderIndex activeOrderIndex;
+    private final CartStore cartStore;
+    private final OrderIdempotencyKeyRepository orderIdempotencyKeyRepository;
+    private final ObjectMapper objectMapper;
 
     @Transactional
     public OrderResponse createOrder(OrderCreateRequest request) {
-        Customer customer = customerRepository.findById(request.getCustomerId())
-                .orElseThrow(() -> new IllegalArgumentException("고객을 찾을 수 없습니다: " + request.getCustomerId()));
+        return placeOrder(takeCart(request));
+    }
+
+    /**
+     * 장바구니 내용을 주문 명령으로 복사하고 장바구니를 비움
+     * 장바구니는 cart id 기준 벌크 DELETE 3문장으로 비움 (아이템 수와 무관)
+     */
+    @Transactional
+    public OrderCommand takeCart(OrderCreateRequest request) {
+        if (!customerRepository.existsById(request.getCustomerId())) {
+            throw new IllegalArgumentException("고객을 찾을 수 없습니다: " + request.getCustomerId());
+        }
+
+        // 메모리 장바구니 모드면 메모리 내용으로 주문하고, 이전에 기록된 장바구니 행이 있으면 함께 삭제
+        if (cartStore.isEnabled()) {
+            OrderCommand command = OrderCommand.of(request, cartStore.take(request.getCustomerId()));
+            cartRepository.findByCustomer_Id(request.getCustomerId()).ifPresent(this::deleteCart);
+            return command;
+        }
 
         Cart cart = cartRepository.findByCustomer_Id(request.getCustomerId())
                 .orElseThrow(() -> new IllegalArgumentException("장바구니가 비어있습니다. 주문할 상품을 장바구니에 담아주세요."));
@@ -42,32 +77,77 @@ public class OrderService {
             throw new IllegalArgumentException("장바구니가 비어있습니다. 주문할 상품을 장바구니에 담아주세요.");
         }
 
+        OrderCommand command = OrderCommand.of(request, cart.getCartItems());
+        deleteCart(cart);
+        return command;
+    }
+
+    private void deleteCart(Cart cart) {
+        cartItemOptionRepository.deleteAllByCartId(cart.getId());
+        cartItemRepository.deleteAllByCartId(cart.getId());
+        cartRepository.deleteByIdInBulk(cart.getId());
+    }
+
+    /**
+     * 저장하지 못한 주문 명령의 아이템을 고객 장바구니에 다시 담음 (비동기 접수 실패 시)
+     * 접수 이후 새로 담은 아이템은 그대로 두고 뒤에 추가
+     */
+    @Transactional
+    public void restoreCart(OrderCommand command) {
+        Long customerId = command.getCustomerId();
+        List<CartItem> items = new ArrayList<>(command.getItems().size());
+        for (OrderCommand.Item item : command.getItems()) {
+            items.add(item.toCartItem());
+        }
+
+        if (cartStore.isEnabled()) {
+            cartStore.update(customerId, cart -> {
+                items.forEach(cart::addItem);
+                return null;
+            });
+            return;
+        }
+
+        Cart cart = cartRepository.findByCustomer_Id(customerId)
+                .orElseGet(() -> cartRepository.save(Cart.builder()
+                        .customer(customerRepository.getReferenceById(customerId))
+                        .build()));
+        items.forEach(cart::addCartItem);
+        cartItemRepository.saveAll(items);
+    }
+
+    /**
+     * 주문 명령으로 주문을 저장
+     * 동기 주문 생성과 비동기 접수 워커가 함께 사용
+     */
+    @Transactional
+    public OrderResponse placeOrder(OrderCommand command) {
         Order order = Order.builder()
-                .customer(customer)
-                .address(request.getAddress())
-                .cardNumber(request.getCardNumber())
-                .deliveryTime(request.getDeliveryTime())
+                .customer(customerRepository.getReferenceById(command.getCustomerId()))
+                .address(command.getAddress())
+                .cardNumber(command.getCardNumber())
+                .deliveryTime(command.getDeliveryTime())
                 .build();
 
-        for (CartItem cartItem : cart.getCartItems()) {
+        for (OrderCommand.Item item : command.getItems()) {
             OrderItem orderItem = OrderItem.builder()
-                    .menuId(cartItem.getMenuId())
-                    .menuName(cartItem.getMenuName())
-                    .menuPrice(cartItem.getMenuPrice())
-                    .styleId(cartItem.getStyleId())
-                    .styleName(cartItem.getStyleName())
-                    .styleExtraPrice(cartItem.getStyleExtraPrice())
-                    .quantity(cartItem.getQuantity())
+                    .menuId(item.getMenuId())
+                    .menuName(item.getMenuName())
+                    .menuPrice(item.getMenuPrice())
+                    .styleId(item.getStyleId())
+                    .styleName(item.getStyleName())
+                    .styleExtraPrice(item.getStyleExtraPrice())
+                    .quantity(item.getQuantity())
                     .build();
 
-            for (CartItemOption cartItemOption : cartItem.getCartItemOptions()) {
+            for (OrderCommand.Option option : item.getOptions()) {
                 OrderItemOption orderItemOption = OrderItemOption.builder()
-                        .optionId(cartItemOption.getOptionId())
-                        .optionName(cartItemOption.getOptionName())
-                        .optionPrice(cartItemOption.getOptionPrice())
-                        .defaultQty(cartItemOption.getDefaultQty())
-                        .quantity(cartItemOption.getQuantity())
-                        .storageConsumption(cartItemOption.getStorageConsumption())
+                        .optionId(option.getOptionId())
+                        .optionName(option.getOptionName())
+                        .optionPrice(option.getOptionPrice())
+                        .defaultQty(option.getDefaultQty())
+                        .quantity(option.getQuantity())
+                        .storageRecipe(option.getStorageRecipe())
                         .build();
                 orderItem.addOrderItemOption(orderItemOption);
             }
@@ -76,30 +156,49 @@ public class OrderService {
         }
 
         Order savedOrder = orderRepository.save(order);
+        eventPublisher.publishEvent(OrderBoardEvent.created(OrderSnapshot.from(savedOrder)));
 
-        cartRepository.delete(cart);
-        
         return OrderResponse.from(savedOrder);
     }
 
+    /**
+     * 주문을 생성하고 Idempotency-Key, 요청 해시, 응답 JSON을 같은 트랜잭션에서 저장
+     * 같은 고객/키가 이미 있으면 커밋 시 유니크 제약 위반으로 롤백됨
+     * @return 저장된 응답 JSON
+     */
+    @Transactional
+    public String createOrder(OrderCreateRequest request, String idempotencyKey, String requestHash) {
+        OrderResponse response = createOrder(request);
+
+        String responseJson;
+        try {
+            responseJson = objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("주문 응답 직렬화에 실패했습니다.", e);
+        }
+
+        orderIdempotencyKeyRepository.saveAndFlush(OrderIdempotencyKey.builder()
+                .customerId(request.getCustomerId())
+                .idempotencyKey(idempotencyKey)
+                .requestHash(requestHash)
+                .orderId(response.getOrderId())
+                .response(responseJson)
+                .build());
+        return responseJson;
+    }
+
     public OrderResponse getOrderById(Long id) {
         Order order = orderRepository.findByIdWithDetails(id)
                 .orElseThrow(() -> new IllegalArgumentException("주문을 찾을 수 없습니다: " + id));
         return OrderResponse.from(order);
     }
 
-    public List<OrderResponse> getOrdersByCustomerId(Long customerId) {
-        List<Order> orders = orderRepository.findByCustomerIdWithDetails(customerId);
-        return orders.stream()
-                .map(OrderResponse::from)
-                .collect(Collectors.toList());
-    }
-
     @Transactional
     public OrderResponse completeOrder(Long orderId) {
         Order order = orderRepository.findByIdWithDetails(orderId)
                 .orElseThrow(() -> new IllegalArgumentException("주문을 찾을 수 없습니다: " + orderId));
 
+        Order.Status previousStatus = order.getDeliveryStatus();
         if (order.getDeliveryStatus() == Order.Status.REQUESTED) {
             order.startCooking();
             order.completeCooking();
@@ -112,60 +211,93 @@ public class OrderService {
         Customer customer = completedOrder.getCustomer();
         customer.incrementOrderCount();
         customerRepository.save(customer);
+
+        eventPublisher.publishEvent(OrderBoardEvent.statusChanged(previousStatus, OrderSnapshot.from(completedOrder)));
         
         return OrderResponse.from(completedOrder);
     }
 
     public OrderListResponse getCookingOrders() {
-        List<Order> orders = orderRepository.findByDeliveryStatusInWithDetails(List.of(Order.Status.REQUESTED, Order.Status.COOKING));
+        List<OrderListResponse.OrderSummary> orderList = activeOrderIndex.find(Order.Status.REQUESTED, Order.Status.COOKING).stream()
+                .map(OrderSnapshot::toCookingSummary)
+                .collect(Collectors.toList());
+        OrderListResponse response = new OrderListResponse(orderList);
 
-        List<OrderListResponse.OrderSummary> orderList = orders.stream()
-                .map(order -> {
-                    List<OrderListResponse.OrderSummary.OrderedItem> orderItems = 
-                            (order.getOrderItems() != null && !order.getOrderItems().isEmpty())
-                            ? order.getOrderItems().stream()
-                            .map(orderItem -> {
-                                List<OrderListResponse.OrderSummary.OptionSummaryDto> options = 
-                                    (orderItem.getOrderItemOptions() != null && !orderItem.getOrderItemOptions().isEmpty()) 
-                                        ? orderItem.getOrderItemOptions().stream()
-                                            .map(opt -> new OrderListResponse.OrderSummary.OptionSummaryDto(
-                                                    opt.getOptionId(),
-                                                    opt.getOptionName(),
-                                                    opt.getQuantity()
-                                            ))
-                                            .collect(java.util.stream.Collectors.toList())
-                                        : java.util.Collections.emptyList();
-                                
-                                return new OrderListResponse.OrderSummary.OrderedItem(
-                                        orderItem.getMenuId(),
-                                        orderItem.getMenuName(),
-                                        orderItem.getQuantity(),
-                                        orderItem.getStyleId(),
-                                        orderItem.getStyleName(),
-                                        options
-                                );
-                            })
-                            .collect(Collectors.toList())
-                            : java.util.Collections.emptyList();
-                    
-                    String deliveryTimeStr = order.getDeliveryTime() != null 
-                            ? order.getDeliveryTime().toString() 
-                            : "";
-                    
-                    return new OrderListResponse.OrderSummary(
-                            order.getId(),
-                            order.getDeliveryStatus() != null ? order.getDeliveryStatus().toString() : "UNKNOWN",
-                            deliveryTimeStr,
-                            orderItems
-                    );
-                })
+        if (activeOrderIndex.isVerifyEnabled()) {
+            verifyActiveOrderIndex(response, loadCookingOrders());
+        }
+        return response;
+    }
+
+    public DeliveryOrderListResponse getDeliveryOrders() {
+        List<DeliveryOrderListResponse.OrderSummary> orderList = activeOrderIndex.find(Order.Status.COOKED, Order.Status.DELIVERING).stream()
+                .map(OrderSnapshot::toDeliverySummary)
                 .collect(Collectors.toList());
-        
+        DeliveryOrderListResponse response = new DeliveryOrderListResponse(orderList);
+
+        if (activeOrderIndex.isVerifyEnabled()) {
+            verifyActiveOrderIndex(response, loadDeliveryOrders());
+        }
+        return response;
+    }
+
+    private void verifyActiveOrderIndex(Object fromIndex, Object fromDatabase) {
+        if (!fromIndex.equals(fromDatabase)) {
+            throw new IllegalStateException("진행 중인 주문 인덱스가 DB와 일치하지 않습니다. 인덱스: " + fromIndex + ", DB: " + fromDatabase);
+        }
+    }
+
+    private OrderListResponse loadCookingOrders() {
+        List<OrderBoardRow> rows = orderRepository.findBoardRowsByDeliveryStatusIn(List.of(Order.Status.REQUESTED, Order.Status.COOKING));
+
+        // 행이 주문 -> 아이템 -> 옵션 순으로 정렬되어 있으므로 한 번 순회로 중첩 DTO를 조립
+        List<OrderListResponse.OrderSummary> orderList = new ArrayList<>();
+        List<OrderListResponse.OrderSummary.OrderedItem> orderItems = null;
+        List<OrderListResponse.OrderSummary.OptionSummaryDto> options = null;
+        Long currentOrderId = null;
+        Long currentOrderItemId = null;
+
+        for (OrderBoardRow row : rows) {
+            if (!row.getOrderId().equals(currentOrderId)) {
+                currentOrderId = row.getOrderId();
+                currentOrderItemId = null;
+                orderItems = new ArrayList<>();
+                orderList.add(new OrderListResponse.OrderSummary(
+                        row.getOrderId(),
+                        row.getStatus().toString(),
+                        row.getDeliveryTime() != null ? row.getDeliveryTime().toString() : "",
+                        orderItems
+                ));
+            }
+
+            if (!row.getOrderItemId().equals(currentOrderItemId)) {
+                currentOrderItemId = row.getOrderItemId();
+                options = new ArrayList<>();
+                orderItems.add(new OrderListResponse.OrderSummary.OrderedItem(
+                        row.getMenuId(),
+                        row.getMenuName(),
+                        row.getQuantity(),
+                        row.getStyleId(),
+                        row.getStyleName(),
+                        options
+                ));
+            }
+
+            if (row.getOptionId() != null) {
+                options.add(new OrderListResponse.OrderSummary.OptionSummaryDto(
+                        row.getOptionId(),
+                        row.getOptionName(),
+                        row.getOptionQuantity()
+                ));
+            }
+        }
+
         return new OrderListResponse(orderList);
     }
 
-    public DeliveryOrderListResponse getDeliveryOrders() {
+    private DeliveryOrderListResponse loadDeliveryOrders() {
         List<Order> orders = orderRepository.findByDeliveryStatusInWithDetails(List.of(Order.Status.COOKED, Order.Status.DELIVERING));
+        orders.sort(Comparator.comparing(Order::getId));
 
         List<DeliveryOrderListResponse.OrderSummary> orderList = orders.stream()
                 .map(order -> {
@@ -206,57 +338,6 @@ public class OrderService {
         return new DeliveryOrderListResponse(orderList);
     }
 
-    public Map<String, Object> getOrdersByCustomerIdForResponse(Long customerId) {
-        List<Order> orders = orderRepository.findByCustomerIdWithDetails(customerId);
-        
-        List<Map<String, Object>> orderList = orders.stream()
-                .map(order -> {
-                    Map<String, Object> orderMap = new HashMap<>();
-                    orderMap.put("orderId", order.getId());
-                    
-                    String orderDate = order.getCreatedAt().toLocalDate().toString()
-                            .replace("-", ".");
-                    orderMap.put("orderDate", orderDate);
-                    
-                    orderMap.put("totalPrice", order.getTotalPrice());
-                    orderMap.put("status", order.getDeliveryStatus().toString());
-                    orderMap.put("deliveryTime", order.getDeliveryTime().toString());
-                    
-                    List<Map<String, Object>> orderItemsList = order.getOrderItems().stream()
-                            .map(orderItem -> {
-                                Map<String, Object> itemMap = new HashMap<>();
-                                itemMap.put("name", orderItem.getMenuName());
-                                itemMap.put("quantity", orderItem.getQuantity());
-                                itemMap.put("styleName", orderItem.getStyleName());
-                                
-                                List<Map<String, Object>> optionsList = 
-                                    (orderItem.getOrderItemOptions() != null && !orderItem.getOrderItemOptions().isEmpty())
-                                        ? orderItem.getOrderItemOptions().stream()
-                                            .map(option -> {
-                                                Map<String, Object> optionMap = new HashMap<>();
-                                                optionMap.put("name", option.getOptionName());
-                                                optionMap.put("quantity", option.getQuantity());
-                                                return optionMap;
-                                            })
-                                            .collect(Collectors.toList())
-                                        : java.util.Collections.emptyList();
-                                itemMap.put("options", optionsList);
-                                
-                                return itemMap;
-                            })
-                            .collect(Collectors.toList());
-                    orderMap.put("orderItems", orderItemsList);
-                    
-                    return orderMap;
-                })
-                .collect(Collectors.toList());
-        
-        Map<String, Object> response = new HashMap<>();
-        response.put("orders", orderList);
-        
-        return response;
-    }
-
     @Transactional
     public OrderUpdateResponse updateOrderStatus(Long id, Map<String, Object> request) {
         Order order = orderRepository.findByIdWithDetails(id)
@@ -266,6 +347,8 @@ public class OrderService {
         if (newStatus == null || newStatus.isBlank()) {
             throw new IllegalArgumentException("상태 값이 필요합니다.");
         }
+
+        Order.Status previousStatus = order.getDeliveryStatus();
         
         switch (newStatus) {
             case "COOKING":
@@ -273,6 +356,7 @@ public class OrderService {
                 break;
             case "COOKED":
                 try {
+                    List<OrderItemOption> options = new ArrayList<>();
                     if (order.getOrderItems() != null) {
                         for (OrderItem orderItem : order.getOrderItems()) {
                             if (orderItem.getOrderItemOptions() != null && !orderItem.getOrderItemOptions().isEmpty()) {
@@ -281,26 +365,15 @@ public class OrderService {
                                     if (quantity == null || quantity < 1) {
                                         throw new IllegalStateException("옵션 수량이 유효하지 않습니다. 주문 ID: " + id);
                                     }
-                                    storageService.checkStock(orderItemOption);
+                                    options.add(orderItemOption);
                                 }
                             }
                         }
                     }
-                    
-                    if (order.getOrderItems() != null) {
-                        for (OrderItem orderItem : order.getOrderItems()) {
-                            if (orderItem.getOrderItemOptions() != null && !orderItem.getOrderItemOptions().isEmpty()) {
-                                for (OrderItemOption orderItemOption : orderItem.getOrderItemOptions()) {
-                                    Integer quantity = orderItemOption.getQuantity();
-                                    if (quantity == null || quantity < 1) {
-                                        throw new IllegalStateException("옵션 수량이 유효하지 않습니다. 주문 ID: " + id);
-                                    }
-                                    storageService.deductStock(orderItemOption);
-                                }
-                            }
-                        }
-                    }
-                    
+
+                    // 재료별로 합산하여 재고 확인과 차감을 한 번에 처리
+                    storageService.reserveStock(order.getId(), options);
+
                     order.completeCooking();
                 } catch (IllegalStateException e) {
                     throw new IllegalStateException("재고가 부족하여 요리를 완료할 수 없습니다: " + e.getMessage());
@@ -323,6 +396,8 @@ public class OrderService {
         }
         
         Order savedOrder = orderRepository.save(order);
+
+        eventPublisher.publishEvent(OrderBoardEvent.statusChanged(previousStatus, OrderSnapshot.from(savedOrder)));
         
         return new OrderUpdateResponse(
                 savedOrder.getId(),
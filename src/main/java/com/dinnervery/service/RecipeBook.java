@@ -0,0 +1,163 @@
+package com.dinnervery.service;
+
+import com.dinnervery.entity.OptionRecipe;
+import com.dinnervery.entity.Storage;
+import com.dinnervery.repository.OptionRecipeRepository;
+import com.dinnervery.repository.StorageRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 옵션 -> 재고 레시피 조회 테이블
+ * option_recipes 테이블을 시작 시 불변 맵으로 올려두고, 행 내용이 바뀌면 통째로 교체
+ * 레시피는 장바구니에 담을 때 옵션 행에 복사되므로, 교체 후에도 이미 담긴 옵션의 차감량은 바뀌지 않음
+ * 조회는 맵 조회로 끝나며 새 객체를 만들지 않음 (매핑이 없는 옵션의 기본 재료도 이름별로 한 번만 생성)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RecipeBook {
+
+    /**
+     * 기본 재료를 따로 보관할 레시피 없는 옵션 이름 수 상한 (요청에서 들어온 임의 이름으로 무한히 늘지 않도록)
+     */
+    private static final int MAX_FALLBACKS = 1024;
+
+    private final OptionRecipeRepository optionRecipeRepository;
+    private final StorageRepository storageRepository;
+
+    private volatile RecipeTable table = RecipeTable.EMPTY;
+    private volatile String fingerprint;
+
+    @Value
+    public static class Ingredient {
+        String storageName;
+        int units;
+    }
+
+    /**
+     * 옵션이 소비하는 재료 목록
+     * optionId 매핑을 먼저 찾고, 없으면 옵션 이름, 그래도 없으면 옵션 이름과 같은 재고 1개로 간주
+     */
+    public List<Ingredient> resolve(Long optionId, String optionName) {
+        RecipeTable current = table;
+        List<Ingredient> ingredients = optionId != null ? current.byOptionId.get(optionId) : null;
+        if (ingredients == null) {
+            ingredients = current.byOptionName.get(optionName);
+        }
+        if (ingredients == null) {
+            // 매핑이 없으면 옵션 이름 그대로 사용
+            ingredients = current.fallback(optionName);
+        }
+        return ingredients;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        reloadIfChanged();
+    }
+
+    /**
+     * 레시피 행과 재고 이름 전체의 체크섬이 바뀌었을 때만 조회 테이블을 다시 만듦
+     * (행 수와 마지막 수정 시각만 보면 updated_at을 건드리지 않는 수정이나 삭제+추가를 놓침)
+     * 레시피 테이블은 옵션 수만큼의 작은 테이블이라 매번 전부 읽음
+     */
+    @Scheduled(fixedDelayString = "${storage.recipe.reload-interval:60000}")
+    public void reloadIfChanged() {
+        List<OptionRecipe> recipes = optionRecipeRepository.findAll(Sort.by("id"));
+        List<String> storageNames = storageRepository.findAll(Sort.by("id")).stream().map(Storage::getName).toList();
+        String latest = checksum(recipes, storageNames);
+        if (latest.equals(fingerprint)) {
+            return;
+        }
+
+        table = RecipeTable.of(recipes, storageNames);
+        fingerprint = latest;
+        log.info("옵션 레시피 테이블 갱신 완료: 레시피 {}행, 체크섬 {}", recipes.size(), latest);
+    }
+
+    private static String checksum(List<OptionRecipe> recipes, List<String> storageNames) {
+        StringBuilder rows = new StringBuilder();
+        for (OptionRecipe recipe : recipes) {
+            rows.append(recipe.getId()).append('\t')
+                    .append(recipe.getOptionId()).append('\t')
+                    .append(recipe.getOptionName()).append('\t')
+                    .append(recipe.getStorageName()).append('\t')
+                    .append(recipe.getUnits()).append('\n');
+        }
+        for (String storageName : storageNames) {
+            rows.append(storageName).append('\n');
+        }
+        return DigestUtils.md5DigestAsHex(rows.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static class RecipeTable {
+
+        static final RecipeTable EMPTY = new RecipeTable(Map.of(), Map.of(), Map.of());
+
+        final Map<Long, List<Ingredient>> byOptionId;
+        final Map<String, List<Ingredient>> byOptionName;
+
+        /**
+         * 레시피가 없는 옵션 이름 -> 같은 이름의 재고 1개
+         * 재고 이름은 적재 시 미리 채우고, 그 밖의 이름은 처음 조회될 때 한 번만 생성
+         */
+        final Map<String, List<Ingredient>> fallbacks;
+
+        RecipeTable(Map<Long, List<Ingredient>> byOptionId, Map<String, List<Ingredient>> byOptionName,
+                    Map<String, List<Ingredient>> fallbacks) {
+            this.byOptionId = byOptionId;
+            this.byOptionName = byOptionName;
+            this.fallbacks = new ConcurrentHashMap<>(fallbacks);
+        }
+
+        List<Ingredient> fallback(String optionName) {
+            List<Ingredient> ingredients = fallbacks.get(optionName);
+            if (ingredients != null) {
+                return ingredients;
+            }
+            if (fallbacks.size() >= MAX_FALLBACKS) {
+                return List.of(new Ingredient(optionName, 1));
+            }
+            return fallbacks.computeIfAbsent(optionName.intern(), name -> List.of(new Ingredient(name, 1)));
+        }
+
+        static RecipeTable of(List<OptionRecipe> recipes, List<String> storageNames) {
+            Map<Long, List<Ingredient>> byOptionId = new HashMap<>();
+            Map<String, List<Ingredient>> byOptionName = new HashMap<>();
+            for (OptionRecipe recipe : recipes) {
+                // 같은 재고 이름 문자열을 공유하도록 intern
+                Ingredient ingredient = new Ingredient(recipe.getStorageName().intern(), recipe.getUnits());
+                if (recipe.getOptionId() != null) {
+                    byOptionId.computeIfAbsent(recipe.getOptionId(), id -> new ArrayList<>()).add(ingredient);
+                }
+                byOptionName.computeIfAbsent(recipe.getOptionName().intern(), name -> new ArrayList<>()).add(ingredient);
+            }
+
+            Map<Long, List<Ingredient>> idTable = new HashMap<>();
+            byOptionId.forEach((id, list) -> idTable.put(id, List.copyOf(list)));
+            Map<String, List<Ingredient>> nameTable = new HashMap<>();
+            byOptionName.forEach((name, list) -> nameTable.put(name, List.copyOf(list)));
+            Map<String, List<Ingredient>> fallbacks = new HashMap<>();
+            for (String storageName : storageNames) {
+                String name = storageName.intern();
+                fallbacks.put(name, List.of(new Ingredient(name, 1)));
+            }
+            return new RecipeTable(Map.copyOf(idTable), Map.copyOf(nameTable), fallbacks);
+        }
+    }
+}
@@ -0,0 +1,318 @@
+package com.dinnervery.service;
+
+import com.dinnervery.common.ServiceUnavailableException;
+import com.dinnervery.entity.StockMovement;
+import com.dinnervery.entity.Storage;
+import com.dinnervery.repository.StockMovementRepository;
+import com.dinnervery.repository.StorageRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 재고 차감 원장과 메모리 재고 카운터
+ * 차감 시에는 재료별 스트라이프 카운터에서 확인/예약하고 원장에 행을 추가만 하므로 storages 행을 잠그지 않음
+ * 원장의 미반영 변동은 백그라운드에서 재고별로 합산하여 storages 잔량에 일괄 반영
+ *
+ * 재고 초기화마다 회차(epoch)가 올라가고 원장 행에는 차감 당시 회차가 기록됨
+ * 초기화 전에 예약했지만 초기화 후에 커밋된 차감은 이전 회차이므로 잔량에 반영하지 않음
+ */
+@Slf4j
+@Service
+public class StockLedger {
+
+    private final StorageRepository storageRepository;
+    private final StockMovementRepository stockMovementRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 카운터 적재, 원장 반영, 재고 초기화를 한 번에 하나씩만 실행 (잠금 안에서 커밋까지 끝냄)
+     */
+    private final ReentrantLock maintenanceLock = new ReentrantLock();
+
+    /**
+     * 현재 회차의 재고 카운터 (시작 시 적재 전에는 null)
+     */
+    private volatile Stock stock;
+
+    /**
+     * storages에 없는 재료 이름 (차감 때마다 DB를 다시 조회하지 않도록 잠시 기억)
+     */
+    private final Cache<String, Boolean> unknownNames = Caffeine.newBuilder()
+            .maximumSize(1024)
+            .expireAfterWrite(Duration.ofMinutes(1))
+            .build();
+
+    /**
+     * 커밋된 수량이 바뀔 때마다 증가하는 버전 (재고 스냅샷 재생성 판단용)
+     */
+    private final AtomicLong version = new AtomicLong();
+
+    public StockLedger(
+            StorageRepository storageRepository,
+            StockMovementRepository stockMovementRepository,
+            PlatformTransactionManager transactionManager) {
+        this.storageRepository = storageRepository;
+        this.stockMovementRepository = stockMovementRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Value
+    public static class StockLevel {
+        Long storageId;
+        String name;
+        int quantity;
+    }
+
+    /**
+     * 한 회차의 재료별 수량 (= storages 잔량 + 같은 회차의 미반영 변동 합계)
+     * counters는 커밋 전 예약까지 뺀 가용 수량(차감 확인용), committed는 커밋된 차감만 뺀 수량(조회용)
+     */
+    private static final class Stock {
+
+        final long epoch;
+        final Map<String, StripedCounter> counters = new ConcurrentHashMap<>();
+        final Map<String, AtomicInteger> committed = new ConcurrentHashMap<>();
+        final Map<Long, String> namesById = new ConcurrentSkipListMap<>();
+
+        Stock(long epoch) {
+            this.epoch = epoch;
+        }
+
+        void put(Long storageId, String name, int quantity) {
+            committed.put(name, new AtomicInteger(quantity));
+            counters.put(name, new StripedCounter(quantity));
+            namesById.put(storageId, name);
+        }
+    }
+
+    /**
+     * 시작 시 DB 잔량과 현재 회차의 미반영 원장으로 카운터를 초기화
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        maintenanceLock.lock();
+        try {
+            Stock loaded = transactionTemplate.execute(status -> {
+                Stock next = new Stock(storageRepository.findCurrentStockEpoch());
+                Map<String, Integer> pending = new HashMap<>();
+                for (Object[] row : stockMovementRepository.sumPendingDeltas(next.epoch)) {
+                    pending.put((String) row[0], ((Number) row[1]).intValue());
+                }
+                for (Storage storage : storageRepository.findAll(Sort.by("id"))) {
+                    next.put(storage.getId(), storage.getName(),
+                            storage.getQuantity() + pending.getOrDefault(storage.getName(), 0));
+                }
+                return next;
+            });
+            stock = loaded;
+            unknownNames.invalidateAll();
+            version.incrementAndGet();
+            log.info("재고 카운터 초기화 완료: 회차 {}, {}", loaded.epoch, levels());
+        } finally {
+            maintenanceLock.unlock();
+        }
+    }
+
+    public long version() {
+        return version.get();
+    }
+
+    /**
+     * 재료별 커밋된 수량 (재고 ID 순, 적재 전이면 빈 목록)
+     * 아직 커밋되지 않은 조리 완료 트랜잭션의 예약은 포함하지 않음
+     */
+    public List<StockLevel> levels() {
+        Stock current = stock;
+        if (current == null) {
+            return List.of();
+        }
+        List<StockLevel> levels = new ArrayList<>(current.namesById.size());
+        current.namesById.forEach((id, name) ->
+                levels.add(new StockLevel(id, name, current.committed.get(name).get())));
+        return levels;
+    }
+
+    /**
+     * 메모리 카운터에서 수요만큼 예약하고 원장에 차감 행을 추가
+     * 하나라도 부족하면 이미 예약한 수량을 되돌리고 예외를 던짐
+     * 트랜잭션이 롤백되면 예약도 자동으로 되돌림
+     */
+    @Transactional
+    public void deduct(Long orderId, IngredientDemand demand) {
+        Stock current = stock;
+        if (current == null) {
+            throw new ServiceUnavailableException("재고 정보를 불러오는 중입니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        StripedCounter[] reserved = new StripedCounter[demand.size()];
+        for (int i = 0; i < demand.size(); i++) {
+            StripedCounter counter = counterFor(current, demand.nameAt(i));
+            if (counter == null) {
+                continue; // 해당 이름의 재고가 없으면 체크/차감하지 않음
+            }
+            if (!counter.tryTake(demand.unitsAt(i))) {
+                release(reserved, demand);
+                throw new IllegalStateException(demand.nameAt(i) + " 재고가 부족합니다.");
+            }
+            reserved[i] = counter;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    commit(current, reserved, demand);
+                } else {
+                    release(reserved, demand);
+                }
+            }
+        });
+
+        List<StockMovement> movements = new ArrayList<>(demand.size());
+        for (int i = 0; i < demand.size(); i++) {
+            if (reserved[i] != null) {
+                movements.add(StockMovement.builder()
+                        .orderId(orderId)
+                        .storageName(demand.nameAt(i))
+                        .delta(-demand.unitsAt(i))
+                        .epoch(current.epoch)
+                        .build());
+            }
+        }
+        stockMovementRepository.saveAll(movements);
+    }
+
+    /**
+     * 현재 회차의 미반영 원장을 재고별로 합산하여 storages 잔량에 반영
+     * 이전 회차의 변동은 잔량에 더하지 않고 처리 완료로만 표시
+     */
+    @Scheduled(fixedDelayString = "${storage.ledger.flush-interval:1000}")
+    public void flush() {
+        maintenanceLock.lock();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                List<StockMovement> pending = stockMovementRepository.findTop500ByAppliedFalseOrderByIdAsc();
+                if (pending.isEmpty()) {
+                    return;
+                }
+
+                long epoch = storageRepository.findCurrentStockEpoch();
+                IngredientDemand deltas = new IngredientDemand();
+                List<Long> ids = new ArrayList<>(pending.size());
+                for (StockMovement movement : pending) {
+                    if (movement.getEpoch() == epoch) {
+                        deltas.add(movement.getStorageName(), movement.getDelta());
+                    }
+                    ids.add(movement.getId());
+                }
+                for (int i = 0; i < deltas.size(); i++) {
+                    storageRepository.adjustQuantity(deltas.nameAt(i), deltas.unitsAt(i));
+                }
+                stockMovementRepository.markApplied(ids);
+            });
+        } finally {
+            maintenanceLock.unlock();
+        }
+    }
+
+    /**
+     * 모든 재고를 주어진 수량으로 초기화하고 회차를 올림
+     * 미반영 원장은 초기화 이전 소비분이므로 반영하지 않고 처리 완료로 표시하며,
+     * 초기화 중에 커밋되는 이전 회차의 차감도 플러시 때 반영하지 않음
+     */
+    public void resetAll(int quantity) {
+        maintenanceLock.lock();
+        try {
+            Stock reset = transactionTemplate.execute(status -> {
+                Stock next = new Stock(storageRepository.findCurrentStockEpoch() + 1);
+                stockMovementRepository.discardPending();
+                List<Storage> all = storageRepository.findAll(Sort.by("id"));
+                for (Storage storage : all) {
+                    storage.reset(quantity, next.epoch);
+                    next.put(storage.getId(), storage.getName(), quantity);
+                }
+                storageRepository.saveAll(all);
+                return next;
+            });
+            stock = reset;
+            unknownNames.invalidateAll();
+            version.incrementAndGet();
+        } finally {
+            maintenanceLock.unlock();
+        }
+    }
+
+    /**
+     * 재료의 카운터 (시작 후 추가된 재고면 처음 차감할 때 DB에서 읽어 만듦, 재고가 없으면 null)
+     */
+    private StripedCounter counterFor(Stock current, String name) {
+        StripedCounter counter = current.counters.get(name);
+        if (counter != null || unknownNames.getIfPresent(name) != null) {
+            return counter;
+        }
+
+        maintenanceLock.lock();
+        try {
+            counter = current.counters.get(name);
+            if (counter != null) {
+                return counter;
+            }
+            Optional<Storage> storage = storageRepository.findByName(name);
+            if (storage.isEmpty()) {
+                unknownNames.put(name, Boolean.TRUE);
+                return null;
+            }
+            long pending = current.epoch == storage.get().getStockEpoch()
+                    ? stockMovementRepository.sumPendingDelta(name, current.epoch)
+                    : 0;
+            current.put(storage.get().getId(), name, storage.get().getQuantity() + (int) pending);
+            version.incrementAndGet();
+            return current.counters.get(name);
+        } finally {
+            maintenanceLock.unlock();
+        }
+    }
+
+    private void commit(Stock current, StripedCounter[] reserved, IngredientDemand demand) {
+        for (int i = 0; i < reserved.length; i++) {
+            if (reserved[i] != null) {
+                current.committed.get(demand.nameAt(i)).addAndGet(-demand.unitsAt(i));
+            }
+        }
+        version.incrementAndGet();
+    }
+
+    private void release(StripedCounter[] reserved, IngredientDemand demand) {
+        for (int i = 0; i < reserved.length; i++) {
+            if (reserved[i] != null) {
+                reserved[i].add(demand.unitsAt(i));
+            }
+        }
+    }
+}
@@ -1,114 +1,139 @@
 package com.dinnervery.service;
 
+import com.dinnervery.dto.storage.response.StockSnapshot;
+import com.dinnervery.dto.storage.response.StorageListResponse;
 import com.dinnervery.entity.OrderItemOption;
-import com.dinnervery.entity.Storage;
-import com.dinnervery.repository.StorageRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.DigestUtils;
 
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class StorageService {
 
-	private final StorageRepository storageRepository;
+	private static final TypeReference<LinkedHashMap<String, Integer>> RECIPE_TYPE = new TypeReference<>() {};
 
-	/**
-	 * 옵션 이름을 재고 이름으로 변환
-	 * 백엔드에서 옵션 이름과 재고 이름의 매핑을 관리
-	 */
-	public String getStorageName(String optionName) {
-		return switch (optionName) {
-			case "에그 스크램블" -> "계란";
-			case "바게트빵" -> "바게트빵";
-			case "베이컨" -> "고기";
-			case "샴페인" -> "샴페인";
-			case "스테이크" -> "고기";
-			case "와인" -> "와인";
-			case "샐러드" -> "채소";
-			case "커피" -> "커피";
-			case "커피포트" -> "커피";
-			default -> optionName;  // 매핑이 없으면 옵션 이름 그대로 사용
-		};
-	}
+	private final RecipeBook recipeBook;
+	private final StockLedger stockLedger;
+	private final ObjectMapper objectMapper;
+
+	private volatile StockSnapshot stockSnapshot;
+	private final ReentrantLock snapshotLock = new ReentrantLock();
 
 	/**
-	 * 옵션 이름에 따른 재고 소비량을 반환
-	 * 백엔드에서 옵션별 재고 소비량을 관리
+	 * 옵션 1개가 소비하는 재료별 수량 (재고 이름 -> 수량 JSON, 예: {"샴페인":1,"와인":2})
+	 * 장바구니에 담을 때 옵션 행에 저장해 두고 조리 완료 시 그대로 차감하므로, 그 사이 레시피가 바뀌어도 담을 때의 레시피로 차감됨
 	 */
-	public int getStorageConsumption(String optionName) {
-		return switch (optionName) {
-			case "에그 스크램블" -> 1;
-			case "바게트빵" -> 1;
-			case "베이컨" -> 1;
-			case "샴페인" -> 1;
-			case "스테이크" -> 1;
-			case "와인" -> 1;
-			case "샐러드" -> 1;
-			case "커피" -> 1;
-			case "커피포트" -> 5;
-			default -> 1;  // 기본값 1
-		};
+	public String getStorageRecipe(Long optionId, String optionName) {
+		List<RecipeBook.Ingredient> ingredients = recipeBook.resolve(optionId, optionName);
+		Map<String, Integer> units = new LinkedHashMap<>();
+		for (int i = 0; i < ingredients.size(); i++) {
+			RecipeBook.Ingredient ingredient = ingredients.get(i);
+			units.merge(ingredient.getStorageName(), ingredient.getUnits(), Integer::sum);
+		}
+		try {
+			return objectMapper.writeValueAsString(units);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("옵션 레시피 직렬화에 실패했습니다.", e);
+		}
 	}
 
 	@Scheduled(cron = "0 0 5 * * *")
-	@Transactional
 	public void resetDailyStock() {
-		List<Storage> all = storageRepository.findAll();
-		for (Storage s : all) {
-			s.setQuantity(100);
-		}
-		storageRepository.saveAll(all);
+		stockLedger.resetAll(100);
 	}
 
-	@Transactional(readOnly = true)
-	public void checkStock(OrderItemOption option) {
-		// 옵션 이름을 재고 이름으로 변환
-		String storageName = getStorageName(option.getOptionName());
-		Storage storage = storageRepository.findByName(storageName)
-				.orElse(null);
-		if (storage == null) {
-			return; // 해당 이름의 재고가 없으면 체크하지 않음
+	/**
+	 * 주문 옵션들을 재고 이름별 총 소비량으로 합산
+	 * 옵션 행에 저장된 레시피를 사용하고, 레시피가 저장되기 전에 만들어진 행만 현재 레시피 테이블에서 조회
+	 */
+	public IngredientDemand aggregateDemand(List<OrderItemOption> options) {
+		IngredientDemand demand = new IngredientDemand();
+		for (OrderItemOption option : options) {
+			if (option.getStorageRecipe() == null) {
+				List<RecipeBook.Ingredient> ingredients = recipeBook.resolve(option.getOptionId(), option.getOptionName());
+				for (int i = 0; i < ingredients.size(); i++) {
+					RecipeBook.Ingredient ingredient = ingredients.get(i);
+					demand.add(ingredient.getStorageName(), ingredient.getUnits() * option.getQuantity());
+				}
+				continue;
+			}
+			for (Map.Entry<String, Integer> ingredient : readRecipe(option.getStorageRecipe()).entrySet()) {
+				demand.add(ingredient.getKey(), ingredient.getValue() * option.getQuantity());
+			}
 		}
-		int required = option.getStorageConsumption() * option.getQuantity();
-		if (storage.getQuantity() < required) {
-			throw new IllegalStateException(storage.getName() + " 재고가 부족합니다.");
+		return demand;
+	}
+
+	private Map<String, Integer> readRecipe(String storageRecipe) {
+		try {
+			return objectMapper.readValue(storageRecipe, RECIPE_TYPE);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("저장된 옵션 레시피를 읽을 수 없습니다: " + storageRecipe, e);
 		}
 	}
 
+	/**
+	 * 주문 옵션들의 재고를 한 번에 예약(차감)
+	 * 재고 이름별로 합산한 뒤 메모리 카운터에서 확인/예약하고 원장에 차감 행을 추가
+	 * storages 잔량은 원장 플러시 때 일괄 반영되므로 조리 완료 트랜잭션은 재고 행을 잠그지 않음
+	 */
 	@Transactional
-	public void deductStock(OrderItemOption option) {
-		// 옵션 이름을 재고 이름으로 변환
-		String storageName = getStorageName(option.getOptionName());
-		Storage storage = storageRepository.findByName(storageName)
-				.orElse(null);
-		if (storage == null) {
-			return; // 해당 이름의 재고가 없으면 차감하지 않음
+	public void reserveStock(Long orderId, List<OrderItemOption> options) {
+		IngredientDemand demand = aggregateDemand(options);
+		if (demand.isEmpty()) {
+			return;
 		}
-		int consumed = option.getStorageConsumption() * option.getQuantity();
-		storage.setQuantity(storage.getQuantity() - consumed);
-		storageRepository.save(storage);
+		stockLedger.deduct(orderId, demand);
 	}
 
-	public Map<String, Object> getAllStorage() {
-		List<Storage> storages = storageRepository.findAll();
+	/**
+	 * 재고 목록 스냅샷 (미리 직렬화한 JSON + ETag)
+	 * 커밋된 재고 수량이 바뀐 뒤 처음 조회할 때만 다시 만들고, 그 외에는 DB 조회/직렬화 없이 그대로 반환
+	 */
+	public StockSnapshot getStockSnapshot() {
+		StockSnapshot current = stockSnapshot;
+		long version = stockLedger.version();
+		if (current != null && current.getVersion() == version) {
+			return current;
+		}
+
+		// synchronized는 가상 스레드를 캐리어 스레드에 고정(pinning)하므로 ReentrantLock 사용
+		snapshotLock.lock();
+		try {
+			current = stockSnapshot;
+			if (current != null && current.getVersion() == version) {
+				return current;
+			}
+			stockSnapshot = buildStockSnapshot(version);
+			return stockSnapshot;
+		} finally {
+			snapshotLock.unlock();
+		}
+	}
 
-		List<Map<String, Object>> items = storages.stream().map(storage -> {
-			Map<String, Object> m = new HashMap<>();
-			m.put("storageId", storage.getId());
-			m.put("name", storage.getName());
-			m.put("quantity", storage.getQuantity());
-			return m;
-		}).collect(Collectors.toList());
+	private StockSnapshot buildStockSnapshot(long version) {
+		List<StorageListResponse.StorageItem> items = stockLedger.levels().stream()
+				.map(level -> new StorageListResponse.StorageItem(level.getStorageId(), level.getName(), level.getQuantity()))
+				.collect(Collectors.toList());
 
-		Map<String, Object> resp = new HashMap<>();
-		resp.put("storageItems", items);
-		return resp;
+		try {
+			byte[] body = objectMapper.writeValueAsBytes(new StorageListResponse(items));
+			String etag = "\"" + DigestUtils.md5DigestAsHex(body) + "\"";
+			return new StockSnapshot(version, etag, body);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("재고 목록 직렬화에 실패했습니다.", e);
+		}
 	}
 }
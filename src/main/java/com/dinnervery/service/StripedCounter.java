@@ -0,0 +1,157 @@
+package com.dinnervery.service;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 음수가 되지 않는 수량을 여러 칸(stripe)에 나눠 담은 카운터
+ * 차감은 임의의 칸 하나에서 CAS로 가져가므로 동시 차감이 한 변수에서 경합하지 않고,
+ * 칸 하나로 부족하면 잠금을 잡고 여러 칸에서 모아 가져옴 (총합보다 많이 가져가는 일은 없음)
+ */
+final class StripedCounter {
+
+    /**
+     * 칸 사이 간격 (long 8개 = 64바이트, 칸끼리 같은 캐시 라인을 쓰지 않도록)
+     */
+    private static final int PADDING = 8;
+
+    /**
+     * 칸 값의 상위 32비트는 변경 횟수, 하위 32비트는 수량 (수량은 음수가 되지 않으므로 자리올림이 상위로 넘어가지 않음)
+     */
+    private static final long VERSION = 1L << 32;
+    private static final long UNITS_MASK = VERSION - 1;
+
+    private final int stripes;
+    private final AtomicLongArray cells;
+
+    /**
+     * 여러 칸에서 모으는 차감끼리 직렬화 (도중에 가져간 수량을 쥐고 있는 스레드는 항상 하나)
+     */
+    private final Object gatherLock = new Object();
+
+    StripedCounter(int initial) {
+        this(initial, defaultStripes());
+    }
+
+    StripedCounter(int initial, int stripes) {
+        this.stripes = stripes;
+        this.cells = new AtomicLongArray(stripes * PADDING);
+        int share = initial / stripes;
+        for (int i = 0; i < stripes; i++) {
+            cells.set(i * PADDING, share);
+        }
+        cells.addAndGet(0, initial - share * stripes);
+    }
+
+    /**
+     * 현재 총합 (동시 차감 중이면 근사값)
+     */
+    int sum() {
+        int sum = 0;
+        for (int i = 0; i < stripes; i++) {
+            sum += units(cells.get(i * PADDING));
+        }
+        return sum;
+    }
+
+    void add(int units) {
+        cells.addAndGet(home() * PADDING, VERSION + units);
+    }
+
+    /**
+     * 총합에서 units만큼 가져감 (부족하면 아무것도 가져가지 않고 false)
+     * 칸 하나에서 한 번의 CAS로 가져가거나, 잠금 안에서 모으다가 일관된 총합이 모자랄 때만 포기함
+     */
+    boolean tryTake(int units) {
+        if (tryTakeFromStripe(home() * PADDING, units)) {
+            return true;
+        }
+        synchronized (gatherLock) {
+            int taken = 0;
+            while (true) {
+                taken += takeAcrossStripes(units - taken);
+                if (taken == units) {
+                    return true;
+                }
+                // 다른 차감은 칸 하나에서 통째로 가져가므로 지금 쥐고 있는 taken 말고는 도중에 빠진 수량이 없음
+                if (snapshotSum() < units - taken) {
+                    add(taken);
+                    return false;
+                }
+            }
+        }
+    }
+
+    private boolean tryTakeFromStripe(int index, int units) {
+        long cell;
+        do {
+            cell = cells.get(index);
+            if (units(cell) < units) {
+                return false;
+            }
+        } while (!cells.compareAndSet(index, cell, cell + VERSION - units));
+        return true;
+    }
+
+    private int takeAcrossStripes(int units) {
+        int start = home();
+        int taken = 0;
+        for (int i = 0; i < stripes && taken < units; i++) {
+            int index = ((start + i) % stripes) * PADDING;
+            long cell;
+            int take;
+            do {
+                cell = cells.get(index);
+                take = Math.min(units(cell), units - taken);
+                if (take <= 0) {
+                    break;
+                }
+            } while (!cells.compareAndSet(index, cell, cell + VERSION - take));
+            if (take > 0) {
+                taken += take;
+            }
+        }
+        return taken;
+    }
+
+    /**
+     * 모든 칸을 두 번 읽어 그 사이 아무 칸도 바뀌지 않았을 때의 총합 (두 번째 읽기 시작 시점의 실제 총합)
+     */
+    private int snapshotSum() {
+        long[] previous = new long[stripes];
+        long[] current = new long[stripes];
+        collect(previous);
+        while (true) {
+            collect(current);
+            if (Arrays.equals(previous, current)) {
+                int sum = 0;
+                for (long cell : current) {
+                    sum += units(cell);
+                }
+                return sum;
+            }
+            long[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+    }
+
+    private void collect(long[] into) {
+        for (int i = 0; i < stripes; i++) {
+            into[i] = cells.get(i * PADDING);
+        }
+    }
+
+    private static int units(long cell) {
+        return (int) (cell & UNITS_MASK);
+    }
+
+    private int home() {
+        return ThreadLocalRandom.current().nextInt(stripes);
+    }
+
+    private static int defaultStripes() {
+        return Math.min(16, Runtime.getRuntime().availableProcessors());
+    }
+}
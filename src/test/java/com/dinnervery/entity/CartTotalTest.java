@@ -0,0 +1,114 @@
+package com.dinnervery.entity;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CartTotalTest {
+
+    private static final int OPERATIONS = 2_000;
+
+    @Test
+    void runningTotalMatchesFullRecalculationAfterRandomChanges() {
+        for (long seed = 1; seed <= 20; seed++) {
+            Random random = new Random(seed);
+            Cart cart = Cart.builder().build();
+
+            for (int step = 0; step < OPERATIONS; step++) {
+                applyRandomOperation(cart, random);
+
+                assertThat(cart.getTotalAmount())
+                        .as("seed=%d step=%d", seed, step)
+                        .isEqualTo(recompute(cart));
+                assertThatCode(cart::verifyTotalAmount).doesNotThrowAnyException();
+            }
+        }
+    }
+
+    @Test
+    void verificationFailsWhenTotalDrifts() {
+        Cart cart = Cart.builder().build();
+        cart.addCartItem(item(new Random(7)));
+        cart.applyItemTotalDelta(1000);
+
+        assertThatThrownBy(cart::verifyTotalAmount)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("장바구니 총액");
+    }
+
+    private static void applyRandomOperation(Cart cart, Random random) {
+        List<CartItem> items = cart.getCartItems();
+        int operation = items.isEmpty() ? 0 : random.nextInt(7);
+        switch (operation) {
+            case 0 -> cart.addCartItem(item(random));
+            case 1 -> cart.removeCartItem(pick(items, random));
+            case 2 -> pick(items, random).addCartItemOption(option(random));
+            case 3 -> {
+                CartItem cartItem = pick(items, random);
+                if (!cartItem.getCartItemOptions().isEmpty()) {
+                    cartItem.removeCartItemOption(pick(cartItem.getCartItemOptions(), random));
+                }
+            }
+            case 4 -> {
+                CartItem cartItem = pick(items, random);
+                if (!cartItem.getCartItemOptions().isEmpty()) {
+                    pick(cartItem.getCartItemOptions(), random).updateQuantity(1 + random.nextInt(5));
+                }
+            }
+            case 5 -> pick(items, random).updateQuantity(1 + random.nextInt(4));
+            default -> {
+                CartItem cartItem = pick(items, random);
+                if (random.nextBoolean()) {
+                    cartItem.setStyle(2L, "디럭스", random.nextInt(3) * 5000);
+                } else {
+                    cartItem.updateItem(2L, "샴페인 축제 디너", 90000, 1L, "심플", 0, 1 + random.nextInt(3));
+                }
+            }
+        }
+    }
+
+    private static int recompute(Cart cart) {
+        int total = 0;
+        for (CartItem cartItem : cart.getCartItems()) {
+            int price = cartItem.getMenuPrice() + cartItem.getStyleExtraPrice();
+            for (CartItemOption option : cartItem.getCartItemOptions()) {
+                price += option.calculateExtraCost();
+            }
+            assertThat(cartItem.getItemTotalPrice()).isEqualTo(price * cartItem.getQuantity());
+            total += price * cartItem.getQuantity();
+        }
+        return total;
+    }
+
+    private static CartItem item(Random random) {
+        return CartItem.builder()
+                .menuId(1L)
+                .menuName("발렌타인 디너")
+                .menuPrice(50000)
+                .styleId(1L)
+                .styleName("심플")
+                .styleExtraPrice(random.nextInt(3) * 5000)
+                .quantity(1 + random.nextInt(3))
+                .build();
+    }
+
+    private static CartItemOption option(Random random) {
+        return CartItemOption.builder()
+                .optionId((long) random.nextInt(10))
+                .optionName("스테이크")
+                .optionPrice(1000 * (1 + random.nextInt(5)))
+                .defaultQty(random.nextInt(2))
+                .quantity(1 + random.nextInt(4))
+                .build();
+    }
+
+    private static <T> T pick(List<T> values, Random random) {
+        return new ArrayList<>(values).get(random.nextInt(values.size()));
+    }
+}
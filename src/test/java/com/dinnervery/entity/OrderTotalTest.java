@@ -0,0 +1,107 @@
+package com.dinnervery.entity;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OrderTotalTest {
+
+    private static final int OPERATIONS = 2_000;
+
+    @Test
+    void runningTotalMatchesFullRecalculationAfterRandomChanges() {
+        for (long seed = 1; seed <= 20; seed++) {
+            Random random = new Random(seed);
+            Order order = Order.builder().build();
+
+            for (int step = 0; step < OPERATIONS; step++) {
+                applyRandomOperation(order, random);
+
+                assertThat(order.getTotalPrice())
+                        .as("seed=%d step=%d", seed, step)
+                        .isEqualTo(recompute(order));
+                assertThatCode(order::verifyTotalPrice).doesNotThrowAnyException();
+            }
+        }
+    }
+
+    @Test
+    void verificationFailsWhenTotalDrifts() {
+        Order order = Order.builder().build();
+        order.addOrderItem(item(new Random(7)));
+        order.applyItemTotalDelta(1000);
+
+        assertThatThrownBy(order::verifyTotalPrice)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("주문 총액");
+    }
+
+    private static void applyRandomOperation(Order order, Random random) {
+        List<OrderItem> items = order.getOrderItems();
+        int operation = items.isEmpty() ? 0 : random.nextInt(6);
+        switch (operation) {
+            case 0 -> order.addOrderItem(item(random));
+            case 1 -> order.removeOrderItem(pick(items, random));
+            case 2 -> pick(items, random).addOrderItemOption(option(random));
+            case 3 -> {
+                OrderItem orderItem = pick(items, random);
+                if (!orderItem.getOrderItemOptions().isEmpty()) {
+                    orderItem.removeOrderItemOption(pick(orderItem.getOrderItemOptions(), random));
+                }
+            }
+            case 4 -> {
+                OrderItem orderItem = pick(items, random);
+                if (!orderItem.getOrderItemOptions().isEmpty()) {
+                    pick(orderItem.getOrderItemOptions(), random).updateQuantity(1 + random.nextInt(5));
+                }
+            }
+            default -> pick(items, random).updateQuantity(1 + random.nextInt(4));
+        }
+    }
+
+    private static int recompute(Order order) {
+        int total = 0;
+        for (OrderItem orderItem : order.getOrderItems()) {
+            int price = orderItem.getMenuPrice() + orderItem.getStyleExtraPrice();
+            for (OrderItemOption option : orderItem.getOrderItemOptions()) {
+                price += option.calculateExtraCost();
+            }
+            assertThat(orderItem.getItemTotalPrice()).isEqualTo(price * orderItem.getQuantity());
+            total += price * orderItem.getQuantity();
+        }
+        return total;
+    }
+
+    private static OrderItem item(Random random) {
+        return OrderItem.builder()
+                .menuId(1L)
+                .menuName("발렌타인 디너")
+                .menuPrice(50000)
+                .styleId(1L)
+                .styleName("심플")
+                .styleExtraPrice(random.nextInt(3) * 5000)
+                .quantity(1 + random.nextInt(3))
+                .build();
+    }
+
+    private static OrderItemOption option(Random random) {
+        return OrderItemOption.builder()
+                .optionId((long) random.nextInt(10))
+                .optionName("스테이크")
+                .optionPrice(1000 * (1 + random.nextInt(5)))
+                .defaultQty(random.nextInt(2))
+                .quantity(1 + random.nextInt(4))
+                .storageRecipe("{\"고기\":1}")
+                .build();
+    }
+
+    private static <T> T pick(List<T> values, Random random) {
+        return new ArrayList<>(values).get(random.nextInt(values.size()));
+    }
+}
@@ -0,0 +1,88 @@
+package com.dinnervery.service;
+
+import com.dinnervery.entity.Order;
+import com.dinnervery.event.OrderBoardEvent;
+import com.dinnervery.event.OrderSnapshot;
+import com.dinnervery.repository.OrderRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ActiveOrderIndexTest {
+
+    private OrderRepository orderRepository;
+    private ActiveOrderIndex index;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository = mock(OrderRepository.class);
+        when(orderRepository.findByDeliveryStatusIn(anyList())).thenReturn(List.of());
+        index = new ActiveOrderIndex(orderRepository, false);
+    }
+
+    @Test
+    void olderStatusArrivingLateDoesNotOverwriteNewerStatus() {
+        index.onOrderBoardEvent(OrderBoardEvent.statusChanged(Order.Status.REQUESTED, snapshot(1L, Order.Status.COOKING)));
+        index.onOrderBoardEvent(OrderBoardEvent.created(snapshot(1L, Order.Status.REQUESTED)));
+
+        assertThat(index.find(Order.Status.REQUESTED)).isEmpty();
+        assertThat(index.find(Order.Status.COOKING)).extracting(OrderSnapshot::getOrderId).containsExactly(1L);
+    }
+
+    @Test
+    void lateEventAfterCompletionDoesNotReAddOrder() {
+        index.onOrderBoardEvent(OrderBoardEvent.created(snapshot(1L, Order.Status.DELIVERING)));
+        index.onOrderBoardEvent(OrderBoardEvent.statusChanged(Order.Status.DELIVERING, snapshot(1L, Order.Status.DONE)));
+        index.onOrderBoardEvent(OrderBoardEvent.statusChanged(Order.Status.COOKED, snapshot(1L, Order.Status.DELIVERING)));
+
+        assertThat(index.find(Order.Status.REQUESTED, Order.Status.COOKING, Order.Status.COOKED, Order.Status.DELIVERING)).isEmpty();
+    }
+
+    @Test
+    void rebuildKeepsEventsAppliedWhileQueryIsRunning() {
+        Order stale = order(1L);
+        when(orderRepository.findByDeliveryStatusIn(anyList())).thenAnswer(invocation -> {
+            // 조회가 진행되는 동안 다른 트랜잭션이 조리를 시작
+            index.onOrderBoardEvent(OrderBoardEvent.statusChanged(Order.Status.REQUESTED, snapshot(1L, Order.Status.COOKING)));
+            return List.of(stale);
+        });
+
+        index.rebuild();
+
+        assertThat(index.find(Order.Status.REQUESTED)).isEmpty();
+        assertThat(index.find(Order.Status.COOKING)).extracting(OrderSnapshot::getOrderId).containsExactly(1L);
+    }
+
+    @Test
+    void findReturnsOrdersSortedByIdAcrossStatuses() {
+        index.onOrderBoardEvent(OrderBoardEvent.created(snapshot(3L, Order.Status.REQUESTED)));
+        index.onOrderBoardEvent(OrderBoardEvent.statusChanged(Order.Status.REQUESTED, snapshot(2L, Order.Status.COOKING)));
+        index.onOrderBoardEvent(OrderBoardEvent.created(snapshot(1L, Order.Status.REQUESTED)));
+
+        assertThat(index.find(Order.Status.REQUESTED, Order.Status.COOKING))
+                .extracting(OrderSnapshot::getOrderId)
+                .containsExactly(1L, 2L, 3L);
+    }
+
+    private static OrderSnapshot snapshot(Long orderId, Order.Status status) {
+        return new OrderSnapshot(orderId, status, LocalTime.of(18, 0), "서울시", List.of());
+    }
+
+    private static Order order(Long orderId) {
+        Order order = Order.builder()
+                .address("서울시")
+                .cardNumber("1234-5678-9012-3456")
+                .deliveryTime(LocalTime.of(18, 0))
+                .build();
+        ReflectionTestUtils.setField(order, "id", orderId);
+        return order;
+    }
+}
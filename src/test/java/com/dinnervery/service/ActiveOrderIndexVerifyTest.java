@@ -0,0 +1,69 @@
+package com.dinnervery.service;
+
+import com.dinnervery.dto.order.response.DeliveryOrderListResponse;
+import com.dinnervery.dto.order.response.OrderListResponse;
+import com.dinnervery.dto.order.response.OrderResponse;
+import com.dinnervery.entity.Customer;
+import com.dinnervery.repository.CustomerRepository;
+import com.dinnervery.support.Fixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 검증 모드(orders.active-index.verify=true)에서는 현황판 조회 때마다 메모리 인덱스를 DB 결과와 비교하고
+ * 다르면 IllegalStateException을 던지므로, 주문의 전체 상태 변화 동안 조회가 성공하면 인덱스가 DB와 일치함
+ */
+@SpringBootTest(properties = "orders.active-index.verify=true")
+@ActiveProfiles({"dev", "test"})
+class ActiveOrderIndexVerifyTest {
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private CartService cartService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Test
+    void indexMatchesDatabaseThroughWholeOrderLifecycle() {
+        Customer customer = customerRepository.save(Fixtures.customer());
+        cartService.addItemToCart(customer.getId(), Fixtures.cartItem(1, "스테이크", "와인"));
+        OrderResponse order = orderService.createOrder(Fixtures.orderRequest(customer.getId()));
+        Long orderId = order.getOrderId();
+
+        assertThat(cookingOrderIds()).contains(orderId);
+
+        orderService.updateOrderStatus(orderId, Map.of("status", "COOKING"));
+        assertThat(cookingOrderIds()).contains(orderId);
+
+        orderService.updateOrderStatus(orderId, Map.of("status", "COOKED"));
+        assertThat(cookingOrderIds()).doesNotContain(orderId);
+        assertThat(deliveryOrderIds()).contains(orderId);
+
+        orderService.updateOrderStatus(orderId, Map.of("status", "DELIVERING"));
+        assertThat(deliveryOrderIds()).contains(orderId);
+
+        orderService.updateOrderStatus(orderId, Map.of("status", "DONE"));
+        assertThat(cookingOrderIds()).doesNotContain(orderId);
+        assertThat(deliveryOrderIds()).doesNotContain(orderId);
+    }
+
+    private List<Long> cookingOrderIds() {
+        OrderListResponse response = orderService.getCookingOrders();
+        return response.getOrders().stream().map(OrderListResponse.OrderSummary::getOrderId).toList();
+    }
+
+    private List<Long> deliveryOrderIds() {
+        DeliveryOrderListResponse response = orderService.getDeliveryOrders();
+        return response.getOrders().stream().map(DeliveryOrderListResponse.OrderSummary::getOrderId).toList();
+    }
+}
@@ -0,0 +1,46 @@
+package com.dinnervery.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AiCircuitBreakerTest {
+
+    @Test
+    void lateSuccessDoesNotCloseOpenCircuit() {
+        AiCircuitBreaker breaker = new AiCircuitBreaker(1, Duration.ofMinutes(10));
+
+        breaker.onFailure();
+        breaker.onSuccess();
+
+        assertThat(breaker.getState()).isEqualTo(AiCircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+    }
+
+    @Test
+    void onlyTrialSuccessClosesCircuit() throws InterruptedException {
+        AiCircuitBreaker breaker = new AiCircuitBreaker(1, Duration.ofMillis(50));
+
+        breaker.onFailure();
+        Thread.sleep(100);
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.getState()).isEqualTo(AiCircuitBreaker.State.HALF_OPEN);
+
+        breaker.onSuccess();
+
+        assertThat(breaker.getState()).isEqualTo(AiCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void neutralOutcomeKeepsFailureCount() {
+        AiCircuitBreaker breaker = new AiCircuitBreaker(2, Duration.ofMinutes(10));
+
+        breaker.onFailure();
+        breaker.onCancel();
+        breaker.onFailure();
+
+        assertThat(breaker.getState()).isEqualTo(AiCircuitBreaker.State.OPEN);
+    }
+}
@@ -0,0 +1,139 @@
+package com.dinnervery.service;
+
+import com.dinnervery.config.AiFastPathProperties;
+import com.dinnervery.dto.ai.response.AiChatResponse;
+import com.dinnervery.dto.ai.response.OrderSummary;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AiFastPathTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private AiFastPath aiFastPath;
+
+    @BeforeEach
+    void setUp() {
+        AiFastPathProperties properties = new AiFastPathProperties();
+        properties.setEnabled(true);
+        properties.setMenus(List.of(
+                entry(1L, "발렌타인 디너", List.of("발렌타인"), List.of(),
+                        defaultOption(1L, "와인"), defaultOption(2L, "스테이크")),
+                entry(2L, "프렌치 디너", List.of("프렌치"), List.of()),
+                entry(4L, "샴페인 축제 디너", List.of("샴페인 축제"), List.of(2L, 3L))));
+        properties.setStyles(List.of(
+                entry(1L, "심플", List.of(), List.of()),
+                entry(2L, "그랜드", List.of(), List.of()),
+                entry(3L, "디럭스", List.of(), List.of())));
+        properties.setOptionWords(List.of("스테이크", "와인", "샴페인", "바게트빵"));
+        properties.setFallbackWords(List.of("빼", "말고", "대신", "추가", "없이", "바꿔", "변경", "취소", "더"));
+        properties.setFillerWords(List.of("디너", "스타일", "으로", "로", "주세요", "줘", "주문", "할게요", "요"));
+
+        meterRegistry = new SimpleMeterRegistry();
+        aiFastPath = new AiFastPath(properties, meterRegistry);
+    }
+
+    @Test
+    void parsesMenuStyleAndQuantity() {
+        OrderSummary summary = parse("샴페인 축제 디너 디럭스로 2인분 주세요");
+
+        assertThat(summary.getMenuId()).isEqualTo(4L);
+        assertThat(summary.getStyleId()).isEqualTo(3L);
+        assertThat(summary.getQuantity()).isEqualTo(2);
+        assertThat(summary.getOptions()).isEmpty();
+    }
+
+    @Test
+    void fillsConfiguredDefaultOptionsInAiServiceShape() throws Exception {
+        OrderSummary summary = parse("발렌타인 디너 그랜드로 주세요");
+
+        // 같은 주문에 AI 서비스가 돌려주는 orderSummary와 같은 모양이어야 함
+        OrderSummary fromAiService = new ObjectMapper().readValue("""
+                {"menuId":1,"menuName":"발렌타인 디너","quantity":1,"styleId":2,"styleName":"그랜드",
+                 "options":[{"optionId":1,"optionName":"와인","quantity":1},{"optionId":2,"optionName":"스테이크","quantity":1}]}
+                """, OrderSummary.class);
+        assertThat(summary).isEqualTo(fromAiService);
+    }
+
+    @Test
+    void readsKoreanNumeralsAndCountersAsQuantity() {
+        assertThat(parse("발렌타인 디너 심플로 두 개 주세요").getQuantity()).isEqualTo(2);
+        assertThat(parse("프렌치 디너 그랜드 세 세트 주세요").getQuantity()).isEqualTo(3);
+        assertThat(parse("발렌타인 디너 심플 삼인분").getQuantity()).isEqualTo(3);
+    }
+
+    @Test
+    void defaultsQuantityToOne() {
+        assertThat(parse("발렌타인 디너 심플로 주세요").getQuantity()).isEqualTo(1);
+    }
+
+    @Test
+    void fallsBackWhenUnparsedNumberRemains() {
+        assertThat(aiFastPath.parse("발렌타인 디너 심플로 두 명이요")).isEmpty();
+        assertThat(aiFastPath.parse("발렌타인 디너 심플로 3인 주세요")).isEmpty();
+        assertThat(aiFastPath.parse("프렌치 디너 그랜드 2 주세요")).isEmpty();
+        assertThat(aiFastPath.parse("프렌치 디너 그랜드 다섯 주세요")).isEmpty();
+    }
+
+    @Test
+    void fallsBackWhenQuantityAppearsTwice() {
+        assertThat(aiFastPath.parse("발렌타인 디너 심플 2개 3개")).isEmpty();
+    }
+
+    @Test
+    void fallsBackOnOptionOrChangeWords() {
+        assertThat(aiFastPath.parse("발렌타인 디너 심플로 스테이크 주세요")).isEmpty();
+        assertThat(aiFastPath.parse("발렌타인 디너 심플로 바꿔 주세요")).isEmpty();
+    }
+
+    @Test
+    void fallsBackUnlessExactlyOneMenuAndStyle() {
+        assertThat(aiFastPath.parse("발렌타인 디너 주세요")).isEmpty();
+        assertThat(aiFastPath.parse("발렌타인 디너 프렌치 디너 심플로 주세요")).isEmpty();
+    }
+
+    @Test
+    void fallsBackOnStyleNotOfferedForMenu() {
+        assertThat(aiFastPath.parse("샴페인 축제 디너 심플로 주세요")).isEmpty();
+    }
+
+    @Test
+    void recordsParseOutcomeMetrics() {
+        aiFastPath.parse("발렌타인 디너 심플로 주세요");
+        aiFastPath.parse("발렌타인 디너 심플로 두 명이요");
+
+        assertThat(meterRegistry.get("ai.fast-path.requests").tag("result", "hit").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("ai.fast-path.requests").tag("result", "fallback").counter().count()).isEqualTo(1.0);
+    }
+
+    private OrderSummary parse(String text) {
+        Optional<AiChatResponse> response = aiFastPath.parse(text);
+        assertThat(response).as(text).isPresent();
+        assertThat(response.get().getState()).isEqualTo("COMPLETE");
+        return response.get().getOrderSummary();
+    }
+
+    private static AiFastPathProperties.Entry entry(Long id, String name, List<String> aliases, List<Long> styleIds,
+                                                    AiFastPathProperties.DefaultOption... defaultOptions) {
+        AiFastPathProperties.Entry entry = new AiFastPathProperties.Entry();
+        entry.setId(id);
+        entry.setName(name);
+        entry.setAliases(aliases);
+        entry.setStyleIds(styleIds);
+        entry.setDefaultOptions(List.of(defaultOptions));
+        return entry;
+    }
+
+    private static AiFastPathProperties.DefaultOption defaultOption(Long id, String name) {
+        AiFastPathProperties.DefaultOption option = new AiFastPathProperties.DefaultOption();
+        option.setId(id);
+        option.setName(name);
+        return option;
+    }
+}
@@ -0,0 +1,98 @@
+package com.dinnervery.service;
+
+import com.dinnervery.dto.ai.response.AiChatChunk;
+import com.dinnervery.dto.ai.response.AiChatResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AiOrderServiceTest {
+
+    private static final AiChatResponse COMPLETE = new AiChatResponse("네, 담았습니다.", "COMPLETE", null);
+
+    private AiServiceClient aiServiceClient;
+    private AiFastPath aiFastPath;
+    private SimpleMeterRegistry meterRegistry;
+    private AiOrderService aiOrderService;
+
+    @BeforeEach
+    void setUp() {
+        aiServiceClient = mock(AiServiceClient.class);
+        aiFastPath = mock(AiFastPath.class);
+        meterRegistry = new SimpleMeterRegistry();
+        aiOrderService = new AiOrderService(aiServiceClient, aiFastPath, meterRegistry,
+                true, 100, Duration.ofMinutes(10), List.of("COMPLETE"));
+    }
+
+    @Test
+    void standaloneUtteranceReusesCachedFinalResponse() {
+        when(aiServiceClient.callAi("네")).thenReturn(Mono.just(COMPLETE));
+
+        aiOrderService.processOrder("네", null).block();
+        AiChatResponse second = aiOrderService.processOrder("네", null).block();
+
+        assertThat(second).isSameAs(COMPLETE);
+        verify(aiServiceClient, times(1)).callAi("네");
+        assertThat(requests("hit")).isEqualTo(1.0);
+    }
+
+    @Test
+    void conversationUtteranceGoesToAiServiceEvenWhenCached() {
+        AiChatResponse midConversation = new AiChatResponse("스테이크를 추가했습니다.", "COMPLETE", null);
+        when(aiServiceClient.callAi("네")).thenReturn(Mono.just(COMPLETE));
+        when(aiServiceClient.callAi("네", "conv-1")).thenReturn(Mono.just(midConversation));
+
+        aiOrderService.processOrder("네", null).block();
+        AiChatResponse response = aiOrderService.processOrder("네", "conv-1").block();
+
+        assertThat(response).isSameAs(midConversation);
+        verify(aiServiceClient).callAi("네", "conv-1");
+        assertThat(requests("bypass")).isEqualTo(1.0);
+        assertThat(requests("hit")).isZero();
+    }
+
+    @Test
+    void conversationUtteranceResponseIsNotCached() {
+        when(aiServiceClient.callAi("네", "conv-1")).thenReturn(Mono.just(COMPLETE));
+        when(aiServiceClient.callAi("네")).thenReturn(Mono.just(COMPLETE));
+
+        aiOrderService.processOrder("네", "conv-1").block();
+        aiOrderService.processOrder("네", null).block();
+
+        verify(aiServiceClient).callAi("네");
+        assertThat(requests("hit")).isZero();
+    }
+
+    @Test
+    void conversationUtteranceSkipsFastPath() {
+        when(aiFastPath.isEnabled()).thenReturn(true);
+        when(aiFastPath.parse(anyString())).thenReturn(Optional.of(COMPLETE));
+        when(aiServiceClient.streamAi("프렌치 디너 하나", "conv-1"))
+                .thenReturn(Flux.just(AiChatChunk.token("프렌치"), AiChatChunk.result(COMPLETE)));
+
+        List<AiChatChunk> chunks = aiOrderService.streamOrder("프렌치 디너 하나", "conv-1").collectList().block();
+
+        assertThat(chunks).hasSize(2);
+        verify(aiFastPath, never()).parse(anyString());
+        verify(aiServiceClient, never()).streamAi(anyString());
+        verify(aiServiceClient, never()).callAi(anyString());
+    }
+
+    private double requests(String result) {
+        return meterRegistry.get("ai.cache.requests").tag("result", result).counter().count();
+    }
+}
@@ -0,0 +1,374 @@
+package com.dinnervery.service;
+
+import com.dinnervery.common.ServiceUnavailableException;
+import com.dinnervery.config.WebClientConfig;
+import com.dinnervery.dto.ai.response.AiChatChunk;
+import com.dinnervery.dto.ai.response.AiChatResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.netty.channel.ConnectTimeoutException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.ConnectException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * JDK HttpServer로 띄운 가짜 AI 서비스에 실제 WebClient(WebClientConfig 설정)로 호출
+ */
+class AiServiceClientTest {
+
+    private static final String OK_BODY = "{\"reply\":\"네\",\"state\":\"COMPLETE\",\"orderSummary\":null}";
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private final AtomicInteger requests = new AtomicInteger();
+    private volatile HttpHandler chatHandler = exchange -> respond(exchange, 200, OK_BODY);
+
+    private ConnectionProvider connectionProvider;
+    private SimpleMeterRegistry meterRegistry;
+
+    // 테스트별로 바꾸는 클라이언트 설정
+    private Duration responseTimeout = Duration.ofSeconds(5);
+    private Duration callTimeout = Duration.ofSeconds(10);
+    private int maxRetries = 2;
+    private int failureThreshold = 5;
+    private Duration openDuration = Duration.ofMinutes(10);
+    private int maxConnections = 10;
+    private int pendingAcquireMaxCount = 100;
+    private Duration pendingAcquireTimeout = Duration.ofSeconds(2);
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        serverExecutor = Executors.newCachedThreadPool();
+        server.setExecutor(serverExecutor);
+        server.createContext("/chat", exchange -> {
+            requests.incrementAndGet();
+            exchange.getRequestBody().readAllBytes();
+            chatHandler.handle(exchange);
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        if (connectionProvider != null) {
+            connectionProvider.dispose();
+        }
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    void returnsSuccessfulResponseAsIs() {
+        AiServiceClient client = newClient();
+
+        AiChatResponse response = client.callAi("발렌타인 디너 하나").block();
+
+        assertThat(response.getReply()).isEqualTo("네");
+        assertThat(response.getState()).isEqualTo("COMPLETE");
+        assertThat(circuitState()).isEqualTo(AiCircuitBreaker.State.CLOSED.ordinal());
+    }
+
+    @Test
+    void consecutiveServerErrorsOpenCircuitAndRejectLaterCalls() {
+        failureThreshold = 2;
+        chatHandler = exchange -> respond(exchange, 500, "{}");
+        AiServiceClient client = newClient();
+
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> client.callAi("주문").block())
+                    .isInstanceOf(ServiceUnavailableException.class);
+        }
+        assertThat(requests.get()).isEqualTo(2);
+        assertThat(circuitState()).isEqualTo(AiCircuitBreaker.State.OPEN.ordinal());
+
+        assertThatThrownBy(() -> client.callAi("주문").block())
+                .isInstanceOf(ServiceUnavailableException.class);
+        assertThat(requests.get()).isEqualTo(2);
+        assertThat(meterRegistry.get("ai.client.rejected").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void successfulTrialCallAfterOpenDurationClosesCircuit() throws InterruptedException {
+        failureThreshold = 1;
+        openDuration = Duration.ofMillis(200);
+        chatHandler = exchange -> respond(exchange, 503, "{}");
+        AiServiceClient client = newClient();
+
+        assertThatThrownBy(() -> client.callAi("주문").block())
+                .isInstanceOf(ServiceUnavailableException.class);
+        assertThat(circuitState()).isEqualTo(AiCircuitBreaker.State.OPEN.ordinal());
+
+        chatHandler = exchange -> respond(exchange, 200, OK_BODY);
+        Thread.sleep(300);
+
+        assertThat(client.callAi("주문").block()).isNotNull();
+        assertThat(circuitState()).isEqualTo(AiCircuitBreaker.State.CLOSED.ordinal());
+    }
+
+    @Test
+    void failedTrialCallReopensCircuit() throws InterruptedException {
+        failureThreshold = 1;
+        openDuration = Duration.ofMillis(200);
+        chatHandler = exchange -> respond(exchange, 500, "{}");
+        AiServiceClient client = newClient();
+
+        assertThatThrownBy(() -> client.callAi("주문").block())
+                .isInstanceOf(ServiceUnavailableException.class);
+        Thread.sleep(300);
+
+        assertThatThrownBy(() -> client.callAi("주문").block())
+                .isInstanceOf(ServiceUnavailableException.class);
+        assertThat(requests.get()).isEqualTo(2);
+        assertThat(circuitState()).isEqualTo(AiCircuitBreaker.State.OPEN.ordinal());
+
+        assertThatThrownBy(() -> client.callAi("주문").block())
+                .isInstanceOf(ServiceUnavailableException.class);
+        assertThat(requests.get()).isEqualTo(2);
+    }
+
+    @Test
+    void clientErrorsDoNotCountAsCircuitFailures() {
+        failureThreshold = 1;
+        chatHandler = exchange -> respond(exchange, 400, "{}");
+        AiServiceClient client = newClient();
+
+        assertThatThrownBy(() -> client.callAi("주문").block())
+                .isInstanceOf(RuntimeException.class)
+                .isNotInstanceOf(ServiceUnavailableException.class);
+        assertThat(requests.get()).isEqualTo(1);
+        assertThat(circuitState()).isEqualTo(AiCircuitBreaker.State.CLOSED.ordinal());
+    }
+
+    @Test
+    void connectionDroppedAfterRequestIsSentIsNotRetried() throws InterruptedException {
+        // 요청 본문을 받은 뒤 응답 헤더 없이 닫으면 연결이 끊김 (WebClientRequestException, PrematureCloseException)
+        chatHandler = HttpExchange::close;
+        AiServiceClient client = newClient();
+
+        assertThatThrownBy(() -> client.callAi("주문").block())
+                .isInstanceOf(ServiceUnavailableException.class);
+        // 재시도가 있었다면 백오프(최대 50ms) 직후 두 번째 요청이 도착함
+        Thread.sleep(500);
+        assertThat(requests.get()).isEqualTo(1);
+    }
+
+    @Test
+    void clientErrorDuringTrialCallLeavesCircuitOpen() throws InterruptedException {
+        failureThreshold = 1;
+        openDuration = Duration.ofMillis(200);
+        chatHandler = exchange -> respond(exchange, 500, "{}");
+        AiServiceClient client = newClient();
+
+        assertThatThrownBy(() -> client.callAi("주문").block())
+                .isInstanceOf(ServiceUnavailableException.class);
+        Thread.sleep(300);
+
+        chatHandler = exchange -> respond(exchange, 400, "{}");
+        assertThatThrownBy(() -> client.callAi("주문").block())
+                .isInstanceOf(RuntimeException.class)
+                .isNotInstanceOf(ServiceUnavailableException.class);
+        assertThat(requests.get()).isEqualTo(2);
+        assertThat(circuitState()).isEqualTo(AiCircuitBreaker.State.OPEN.ordinal());
+    }
+
+    @Test
+    void responseTimeoutIsNotRetriedButCountsAsCircuitFailure() throws InterruptedException {
+        responseTimeout = Duration.ofMillis(200);
+        failureThreshold = 1;
+        chatHandler = exchange -> {
+            sleep(1_000);
+            respond(exchange, 200, OK_BODY);
+        };
+        AiServiceClient client = newClient();
+
+        assertThatThrownBy(() -> client.callAi("주문").block())
+                .isInstanceOf(ServiceUnavailableException.class);
+        // 재시도가 있었다면 백오프(최대 50ms) 직후 두 번째 요청이 도착함
+        Thread.sleep(500);
+        assertThat(requests.get()).isEqualTo(1);
+        assertThat(circuitState()).isEqualTo(AiCircuitBreaker.State.OPEN.ordinal());
+    }
+
+    @Test
+    void callFailsWithoutWaitingPastOverallDeadline() {
+        callTimeout = Duration.ofMillis(300);
+        chatHandler = exchange -> {
+            sleep(3_000);
+            respond(exchange, 200, OK_BODY);
+        };
+        AiServiceClient client = newClient();
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> client.callAi("주문").block())
+                .isInstanceOf(ServiceUnavailableException.class);
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(2));
+    }
+
+    @Test
+    void poolAcquireFailureIsNeitherRetriedNorCountedAsCircuitFailure() throws Exception {
+        maxConnections = 1;
+        pendingAcquireMaxCount = 1;
+        pendingAcquireTimeout = Duration.ofMillis(100);
+        failureThreshold = 1;
+        CountDownLatch arrived = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        chatHandler = exchange -> {
+            arrived.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            respond(exchange, 200, OK_BODY);
+        };
+        AiServiceClient client = newClient();
+
+        CompletableFuture<AiChatResponse> holding = client.callAi("첫 주문").toFuture();
+        assertThat(arrived.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> client.callAi("두 번째 주문").block())
+                .isInstanceOf(ServiceUnavailableException.class);
+        assertThat(requests.get()).isEqualTo(1);
+        assertThat(circuitState()).isEqualTo(AiCircuitBreaker.State.CLOSED.ordinal());
+
+        release.countDown();
+        assertThat(holding.get(5, TimeUnit.SECONDS).getState()).isEqualTo("COMPLETE");
+    }
+
+    @Test
+    void streamDeliversTokensThenFinalResponse() {
+        chatHandler = exchange -> respondSse(exchange,
+                "event: token\ndata: 발렌타인\n\n"
+                        + "event: token\ndata:  디너\n\n"
+                        + "event: summary\ndata: " + OK_BODY + "\n\n");
+        AiServiceClient client = newClient();
+
+        List<AiChatChunk> chunks = client.streamAi("발렌타인 디너").collectList().block();
+
+        assertThat(chunks).hasSize(3);
+        assertThat(chunks.get(0).getToken()).isEqualTo("발렌타인");
+        assertThat(chunks.get(2).isFinal()).isTrue();
+        assertThat(chunks.get(2).getResult().getState()).isEqualTo("COMPLETE");
+    }
+
+    @Test
+    void streamEndingWithoutSummaryFails() {
+        failureThreshold = 1;
+        chatHandler = exchange -> respondSse(exchange, "event: token\ndata: 발렌타인\n\n");
+        AiServiceClient client = newClient();
+        List<AiChatChunk> received = new ArrayList<>();
+
+        assertThatThrownBy(() -> client.streamAi("발렌타인 디너").doOnNext(received::add).blockLast())
+                .isInstanceOf(ServiceUnavailableException.class);
+        assertThat(received).hasSize(1);
+        assertThat(circuitState()).isEqualTo(AiCircuitBreaker.State.OPEN.ordinal());
+    }
+
+    @Test
+    void wrappedExceptionsAreClassifiedByCauseChain() {
+        WebClientRequestException wrapped = new WebClientRequestException(
+                new PoolAcquirePendingLimitException(), HttpMethod.POST, URI.create("http://ai/chat"), new HttpHeaders());
+        WebClientRequestException connectFailure = new WebClientRequestException(
+                new ConnectException("Connection refused"), HttpMethod.POST, URI.create("http://ai/chat"), new HttpHeaders());
+        WebClientRequestException connectTimeout = new WebClientRequestException(
+                new IOException(new ConnectTimeoutException("connection timed out")),
+                HttpMethod.POST, URI.create("http://ai/chat"), new HttpHeaders());
+        WebClientRequestException droppedAfterSend = new WebClientRequestException(
+                new IOException("Connection prematurely closed BEFORE response"),
+                HttpMethod.POST, URI.create("http://ai/chat"), new HttpHeaders());
+
+        assertThat(AiServiceClient.isPoolAcquireFailure(wrapped)).isTrue();
+        assertThat(AiServiceClient.isRetryable(wrapped)).isFalse();
+        assertThat(AiServiceClient.isServiceFailure(wrapped)).isFalse();
+
+        assertThat(AiServiceClient.isPoolAcquireFailure(connectFailure)).isFalse();
+        assertThat(AiServiceClient.isRetryable(connectFailure)).isTrue();
+        assertThat(AiServiceClient.isServiceFailure(connectFailure)).isTrue();
+
+        assertThat(AiServiceClient.isRetryable(connectTimeout)).isTrue();
+        assertThat(AiServiceClient.isRetryable(droppedAfterSend)).isFalse();
+        assertThat(AiServiceClient.isServiceFailure(droppedAfterSend)).isTrue();
+    }
+
+    private AiServiceClient newClient() {
+        WebClientConfig config = new WebClientConfig();
+        ReflectionTestUtils.setField(config, "aiBaseUrl", "http://127.0.0.1:" + server.getAddress().getPort());
+        connectionProvider = config.aiConnectionProvider(
+                maxConnections, pendingAcquireMaxCount, pendingAcquireTimeout, Duration.ofSeconds(30));
+        WebClient webClient = config.aiWebClient(
+                WebClient.builder(), connectionProvider, Duration.ofSeconds(1), responseTimeout);
+        meterRegistry = new SimpleMeterRegistry();
+        return new AiServiceClient(webClient, new ObjectMapper(), meterRegistry, "/chat/stream",
+                callTimeout, maxRetries, Duration.ofMillis(10), Duration.ofMillis(50), failureThreshold, openDuration);
+    }
+
+    private double circuitState() {
+        return meterRegistry.get("ai.client.circuit.state").gauge().value();
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        try {
+            exchange.sendResponseHeaders(status, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        } catch (IOException e) {
+            // 클라이언트가 먼저 끊은 경우 (타임아웃 테스트)
+            exchange.close();
+        }
+    }
+
+    private static void respondSse(HttpExchange exchange, String events) throws IOException {
+        byte[] bytes = events.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "text/event-stream;charset=UTF-8");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * reactor-pool 예외와 같은 이름의 대역 (셰이딩된 실제 클래스는 내부 패키지라 직접 생성하지 않음)
+     */
+    private static final class PoolAcquirePendingLimitException extends RuntimeException {
+    }
+}
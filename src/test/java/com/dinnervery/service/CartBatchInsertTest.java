@@ -0,0 +1,73 @@
+package com.dinnervery.service;
+
+import com.dinnervery.dto.cart.request.CartAddItemRequest;
+import com.dinnervery.dto.cart.request.CartBatchAddRequest;
+import com.dinnervery.dto.cart.response.CartBatchAddResponse;
+import com.dinnervery.entity.Customer;
+import com.dinnervery.repository.CartItemRepository;
+import com.dinnervery.repository.CartRepository;
+import com.dinnervery.repository.CustomerRepository;
+import com.dinnervery.support.BatchInsertAssert;
+import com.dinnervery.support.Fixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 장바구니 일괄 추가의 아이템/옵션 INSERT가 아이템 수와 무관하게 JDBC 배치로 묶이는지 확인 (database 모드)
+ */
+@SpringBootTest
+@ActiveProfiles({"dev", "test"})
+class CartBatchInsertTest {
+
+    @Autowired
+    private CartService cartService;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @Autowired
+    private CartItemRepository cartItemRepository;
+
+    @Test
+    void batchAddInsertsItemsAndOptionsInBatches() {
+        Long smallCustomer = customerWithCart();
+        Long largeCustomer = customerWithCart();
+
+        // cart_items / cart_item_options
+        CartBatchAddResponse response = BatchInsertAssert.assertInsertsBatched(2,
+                () -> cartService.addItemsToCart(smallCustomer, batch(1)),
+                () -> cartService.addItemsToCart(largeCustomer, batch(10))).getValue();
+
+        Long cartId = cartRepository.findByCustomer_Id(largeCustomer).orElseThrow().getId();
+        assertThat(cartItemRepository.findByCart_Id(cartId)).hasSize(11);
+        assertThat(response.getItems()).hasSize(10);
+        assertThat(response.getItems()).allSatisfy(item -> assertThat(item.getCartItemId()).isNotNull());
+    }
+
+    /**
+     * 장바구니 행을 미리 만들어 두어 측정 구간에는 아이템/옵션 INSERT만 남게 함
+     */
+    private Long customerWithCart() {
+        Customer customer = customerRepository.save(Fixtures.customer());
+        cartService.addItemToCart(customer.getId(), Fixtures.cartItem(1));
+        return customer.getId();
+    }
+
+    private static CartBatchAddRequest batch(int items) {
+        List<CartAddItemRequest> requests = new ArrayList<>(items);
+        for (int i = 0; i < items; i++) {
+            requests.add(Fixtures.cartItem(1, "스테이크", "와인"));
+        }
+        return new CartBatchAddRequest(requests);
+    }
+}
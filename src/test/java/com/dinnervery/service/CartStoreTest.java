@@ -0,0 +1,138 @@
+package com.dinnervery.service;
+
+import com.dinnervery.entity.Cart;
+import com.dinnervery.entity.CartItem;
+import com.dinnervery.repository.CartItemOptionRepository;
+import com.dinnervery.repository.CartItemRepository;
+import com.dinnervery.repository.CartRepository;
+import com.dinnervery.repository.CustomerRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CartStoreTest {
+
+    private static final Long CUSTOMER_ID = 1L;
+
+    private final CartRepository cartRepository = mock(CartRepository.class);
+    private final CartItemRepository cartItemRepository = mock(CartItemRepository.class);
+    private final CustomerRepository customerRepository = mock(CustomerRepository.class);
+
+    @Test
+    void checkoutModeEvictsIdleCartsWithoutWritingThem() throws InterruptedException {
+        CartStore store = store("checkout");
+
+        store.update(CUSTOMER_ID, cart -> cart.addItem(item()));
+        Thread.sleep(20);
+        store.flush();
+
+        // 제거된 뒤에는 다시 DB에서 적재함
+        store.read(CUSTOMER_ID, CartStore.StoredCart::isEmpty);
+        verify(customerRepository, times(2)).existsById(CUSTOMER_ID);
+        verify(cartRepository, never()).save(any());
+    }
+
+    @Test
+    void writeBehindModeEvictsOnlyAfterCartIsWritten() throws InterruptedException {
+        CartStore store = store("write-behind");
+        when(cartRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        store.update(CUSTOMER_ID, cart -> cart.addItem(item()));
+        Thread.sleep(20);
+        store.flush();
+        verify(cartRepository).save(any(Cart.class));
+
+        store.read(CUSTOMER_ID, CartStore.StoredCart::isEmpty);
+        verify(customerRepository, times(1)).existsById(CUSTOMER_ID);
+
+        Thread.sleep(20);
+        store.flush();
+        store.read(CUSTOMER_ID, CartStore.StoredCart::isEmpty);
+        verify(customerRepository, times(2)).existsById(CUSTOMER_ID);
+    }
+
+    @Test
+    void writeBehindUpdatesExistingRowsInPlaceAndKeepsCartId() {
+        Cart existing = Cart.builder().build();
+        ReflectionTestUtils.setField(existing, "id", 7L);
+        CartItem row = item();
+        ReflectionTestUtils.setField(row, "id", 100L);
+        existing.addCartItem(row);
+        CartStore store = store("write-behind");
+        when(cartRepository.findByCustomer_Id(CUSTOMER_ID)).thenReturn(Optional.of(existing));
+
+        store.update(CUSTOMER_ID, cart -> {
+            cart.getItem(100L).updateQuantity(3);
+            return null;
+        });
+        store.flush();
+
+        assertThat(row.getQuantity()).isEqualTo(3);
+        assertThat(existing.getCartItems()).containsExactly(row);
+        assertThat(existing.getTotalAmount()).isEqualTo(row.getItemTotalPrice());
+        assertThat(store.read(CUSTOMER_ID, CartStore.StoredCart::getCartId)).isEqualTo(7L);
+        verify(cartRepository, never()).save(any());
+        verify(cartItemRepository, never()).deleteAllByCartId(any());
+    }
+
+    @Test
+    void editsDuringWriteAreNotBlockedAndAreWrittenNextTime() {
+        CartStore store = store("write-behind");
+        when(cartRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        store.update(CUSTOMER_ID, cart -> cart.addItem(item()));
+
+        AtomicBoolean editedDuringWrite = new AtomicBoolean();
+        when(cartRepository.findByCustomer_Id(CUSTOMER_ID)).thenAnswer(invocation -> {
+            // 기록 중 다른 스레드의 편집이 고객 락에 막히지 않아야 함
+            CompletableFuture<Long> edit = CompletableFuture.supplyAsync(
+                    () -> store.update(CUSTOMER_ID, cart -> cart.addItem(item())));
+            editedDuringWrite.compareAndSet(false, edit.get(1, TimeUnit.SECONDS) != null);
+            return Optional.empty();
+        });
+        store.flush();
+        assertThat(editedDuringWrite).isTrue();
+        verify(cartRepository, times(1)).save(any(Cart.class));
+
+        // 기록 중 바뀐 장바구니는 다음 주기에 다시 기록됨
+        doReturn(Optional.empty()).when(cartRepository).findByCustomer_Id(CUSTOMER_ID);
+        store.flush();
+        verify(cartRepository, times(2)).save(any(Cart.class));
+        store.flush();
+        verify(cartRepository, times(2)).save(any(Cart.class));
+    }
+
+    private CartStore store(String mode) {
+        when(customerRepository.existsById(CUSTOMER_ID)).thenReturn(true);
+        when(cartRepository.findByCustomer_Id(CUSTOMER_ID)).thenReturn(Optional.empty());
+        return new CartStore(cartRepository, cartItemRepository, mock(CartItemOptionRepository.class),
+                customerRepository, mock(PlatformTransactionManager.class), mode, Duration.ofMillis(10));
+    }
+
+    private static CartItem item() {
+        return CartItem.builder()
+                .menuId(1L)
+                .menuName("발렌타인 디너")
+                .menuPrice(50000)
+                .styleId(1L)
+                .styleName("심플")
+                .styleExtraPrice(0)
+                .quantity(1)
+                .build();
+    }
+}
@@ -0,0 +1,65 @@
+package com.dinnervery.service;
+
+import com.dinnervery.entity.Customer;
+import com.dinnervery.repository.CartItemRepository;
+import com.dinnervery.repository.CartRepository;
+import com.dinnervery.repository.CustomerRepository;
+import com.dinnervery.support.Fixtures;
+import com.dinnervery.support.StatementCounter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주문 시 장바구니 삭제가 아이템 수와 무관하게 벌크 DELETE 3문장으로 끝나는지 확인 (database 모드)
+ */
+@SpringBootTest
+@ActiveProfiles({"dev", "test"})
+class CartTeardownTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private CartService cartService;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @Autowired
+    private CartItemRepository cartItemRepository;
+
+    @Test
+    void cartIsClearedWithConstantNumberOfDeletes() {
+        Long smallCartCustomer = customerWithCart(1);
+        Long largeCartCustomer = customerWithCart(10);
+        Long largeCartId = cartRepository.findByCustomer_Id(largeCartCustomer).orElseThrow().getId();
+
+        StatementCounter.Result small = StatementCounter.count(() -> orderService.takeCart(Fixtures.orderRequest(smallCartCustomer)));
+        StatementCounter.Result large = StatementCounter.count(() -> orderService.takeCart(Fixtures.orderRequest(largeCartCustomer)));
+
+        // 벌크 DELETE 3문장(옵션/아이템/장바구니)으로 아이템 수와 무관하고, 행 단위 DELETE나 UPDATE는 없음
+        assertThat(small.getDeletes()).isEqualTo(3);
+        assertThat(large.getDeletes()).isEqualTo(3);
+        assertThat(large.getUpdates()).isZero();
+        // 주문 명령으로 복사하며 아이템별 옵션을 지연 로딩하는 조회만 아이템 수만큼 늘어남
+        assertThat(large.getStatements() - large.getSelects()).isEqualTo(small.getStatements() - small.getSelects());
+
+        assertThat(cartRepository.findByCustomer_Id(largeCartCustomer)).isEmpty();
+        assertThat(cartItemRepository.findByCart_Id(largeCartId)).isEmpty();
+    }
+
+    private Long customerWithCart(int items) {
+        Customer customer = customerRepository.save(Fixtures.customer());
+        for (int i = 0; i < items; i++) {
+            cartService.addItemToCart(customer.getId(), Fixtures.cartItem(1, "스테이크", "와인"));
+        }
+        return customer.getId();
+    }
+}
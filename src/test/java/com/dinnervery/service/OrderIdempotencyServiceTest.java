@@ -0,0 +1,89 @@
+package com.dinnervery.service;
+
+import com.dinnervery.common.UnprocessableEntityException;
+import com.dinnervery.dto.order.request.OrderCreateRequest;
+import com.dinnervery.entity.OrderIdempotencyKey;
+import com.dinnervery.repository.OrderIdempotencyKeyRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OrderIdempotencyServiceTest {
+
+    private final OrderService orderService = mock(OrderService.class);
+    private final OrderIdempotencyKeyRepository repository = mock(OrderIdempotencyKeyRepository.class);
+    private final OrderIdempotencyService service = new OrderIdempotencyService(
+            orderService, repository, new ObjectMapper().findAndRegisterModules(), 100, Duration.ofHours(1));
+
+    @Test
+    void retryWithSameBodyReplaysFirstResponse() {
+        when(repository.findByCustomerIdAndIdempotencyKey(1L, "key-1")).thenReturn(Optional.empty());
+        when(orderService.createOrder(any(), eq("key-1"), anyString())).thenReturn("{\"orderId\":10}");
+
+        byte[] first = service.createOrder("key-1", request("서울시 A"));
+        byte[] retry = service.createOrder("key-1", request("서울시 A"));
+
+        assertThat(new String(retry, StandardCharsets.UTF_8)).isEqualTo("{\"orderId\":10}");
+        assertThat(retry).isEqualTo(first);
+        verify(orderService, times(1)).createOrder(any(), anyString(), anyString());
+    }
+
+    @Test
+    void sameKeyWithDifferentBodyIsRejected() {
+        when(repository.findByCustomerIdAndIdempotencyKey(1L, "key-1")).thenReturn(Optional.empty());
+        when(orderService.createOrder(any(), eq("key-1"), anyString())).thenReturn("{\"orderId\":10}");
+
+        service.createOrder("key-1", request("서울시 A"));
+
+        assertThatThrownBy(() -> service.createOrder("key-1", request("서울시 B")))
+                .isInstanceOf(UnprocessableEntityException.class);
+        verify(orderService, times(1)).createOrder(any(), anyString(), anyString());
+    }
+
+    @Test
+    void storedKeyFromAnotherInstanceIsCheckedAgainstBody() {
+        when(repository.findByCustomerIdAndIdempotencyKey(1L, "key-2")).thenReturn(Optional.of(
+                OrderIdempotencyKey.builder()
+                        .customerId(1L)
+                        .idempotencyKey("key-2")
+                        .requestHash("0".repeat(64))
+                        .orderId(10L)
+                        .response("{\"orderId\":10}")
+                        .build()));
+
+        assertThatThrownBy(() -> service.createOrder("key-2", request("서울시 A")))
+                .isInstanceOf(UnprocessableEntityException.class);
+    }
+
+    @Test
+    void keyStoredBeforeHashingIsReplayed() {
+        when(repository.findByCustomerIdAndIdempotencyKey(1L, "legacy")).thenReturn(Optional.of(
+                OrderIdempotencyKey.builder()
+                        .customerId(1L)
+                        .idempotencyKey("legacy")
+                        .orderId(10L)
+                        .response("{\"orderId\":10}")
+                        .build()));
+
+        assertThat(new String(service.createOrder("legacy", request("서울시 A")), StandardCharsets.UTF_8))
+                .isEqualTo("{\"orderId\":10}");
+    }
+
+    private static OrderCreateRequest request(String address) {
+        return new OrderCreateRequest(1L, address, "1234-5678-9012-3456", LocalTime.of(18, 0));
+    }
+}
@@ -0,0 +1,75 @@
+package com.dinnervery.service;
+
+import com.dinnervery.dto.order.command.OrderCommand;
+import com.dinnervery.dto.order.response.OrderResponse;
+import com.dinnervery.entity.Customer;
+import com.dinnervery.repository.CustomerRepository;
+import com.dinnervery.support.BatchInsertAssert;
+import com.dinnervery.support.Fixtures;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주문 애그리거트 저장이 아이템 수와 무관하게 테이블별 배치 INSERT 몇 문장으로 끝나는지 확인
+ */
+@SpringBootTest
+@ActiveProfiles({"dev", "test"})
+class OrderInsertBatchingTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long customerId;
+
+    @BeforeEach
+    void setUp() {
+        Customer customer = customerRepository.save(Fixtures.customer());
+        customerId = customer.getId();
+    }
+
+    @Test
+    void tenItemOrderUsesAboutAsManyStatementsAsOneItemOrder() {
+        // orders / order_items / order_item_options
+        BatchInsertAssert.Outcome<OrderResponse> tenItems = BatchInsertAssert.assertInsertsBatched(3,
+                () -> orderService.placeOrder(command(1)),
+                () -> orderService.placeOrder(command(10)));
+        assertThat(tenItems.getStatements().getStatements()).isLessThanOrEqualTo(5);
+
+        // 주문 1 + 아이템 10 + 옵션 20
+        OrderResponse response = tenItems.getValue();
+        assertThat(response.getOrderItems()).hasSize(10);
+        assertThat(optionRows(response.getOrderId())).isEqualTo(20);
+    }
+
+    private Integer optionRows(Long orderId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM order_item_options o JOIN order_items i ON o.order_item_id = i.id WHERE i.order_id = ?",
+                Integer.class, orderId);
+    }
+
+    private OrderCommand command(int itemCount) {
+        List<OrderCommand.Item> items = new ArrayList<>();
+        for (int i = 0; i < itemCount; i++) {
+            items.add(new OrderCommand.Item(1L, "발렌타인 디너", 50000, 1L, "심플", 0, 1, List.of(
+                    new OrderCommand.Option(1L, "스테이크", 5000, 1, 1, 1),
+                    new OrderCommand.Option(2L, "와인", 5000, 1, 1, 1))));
+        }
+        return new OrderCommand(customerId, "서울시 테스트구", "1234-5678-9012-3456", LocalTime.of(18, 0), items);
+    }
+}
@@ -0,0 +1,99 @@
+package com.dinnervery.service;
+
+import com.dinnervery.common.TooManyRequestsException;
+import com.dinnervery.dto.order.command.OrderCommand;
+import com.dinnervery.dto.order.request.OrderCreateRequest;
+import com.dinnervery.dto.order.response.OrderIntakeResponse;
+import com.dinnervery.dto.order.response.OrderResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OrderIntakeServiceTest {
+
+    private final OrderService orderService = mock(OrderService.class);
+    private final OrderIntakeService intake = new OrderIntakeService(
+            orderService, mock(PlatformTransactionManager.class), new SimpleMeterRegistry(),
+            "async", 100, 2, 5, Duration.ofMinutes(1), Duration.ofSeconds(10));
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        intake.stop();
+    }
+
+    @Test
+    void failedOrderIsPutBackIntoCart() throws Exception {
+        OrderCommand command = command(1L);
+        when(orderService.takeCart(any())).thenReturn(command);
+        when(orderService.placeOrder(command)).thenThrow(new IllegalStateException("DB 오류"));
+        intake.start();
+
+        OrderIntakeResponse queued = intake.submit(request(1L));
+        OrderIntakeResponse result = awaitFinished(queued.getTrackingId(), 1L);
+
+        assertThat(result.getStatus()).isEqualTo(OrderIntakeResponse.Status.FAILED);
+        verify(orderService).restoreCart(command);
+    }
+
+    @Test
+    void everyAcceptedOrderIsSavedBeforeShutdownAndLaterSubmitsAreRejected() throws Exception {
+        AtomicLong orderIds = new AtomicLong();
+        when(orderService.takeCart(any())).thenAnswer(invocation ->
+                command(((OrderCreateRequest) invocation.getArgument(0)).getCustomerId()));
+        when(orderService.placeOrder(any())).thenAnswer(invocation -> {
+            OrderCommand command = invocation.getArgument(0);
+            return new OrderResponse(orderIds.incrementAndGet(), command.getCustomerId(), "REQUESTED", 0,
+                    List.of(), null, "18:00");
+        });
+        intake.start();
+
+        List<String> trackingIds = new ArrayList<>();
+        for (long customerId = 1; customerId <= 20; customerId++) {
+            trackingIds.add(intake.submit(request(customerId)).getTrackingId());
+        }
+        intake.stop();
+
+        verify(orderService, times(20)).placeOrder(any());
+        for (int i = 0; i < trackingIds.size(); i++) {
+            assertThat(intake.getStatus(trackingIds.get(i), (long) i + 1).getStatus())
+                    .isEqualTo(OrderIntakeResponse.Status.COMPLETED);
+        }
+        assertThatThrownBy(() -> intake.submit(request(99L))).isInstanceOf(TooManyRequestsException.class);
+        verify(orderService, never()).restoreCart(any());
+    }
+
+    private OrderIntakeResponse awaitFinished(String trackingId, Long customerId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        OrderIntakeResponse status = intake.getStatus(trackingId, customerId);
+        while (status.getStatus() == OrderIntakeResponse.Status.QUEUED && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            status = intake.getStatus(trackingId, customerId);
+        }
+        return status;
+    }
+
+    private static OrderCreateRequest request(Long customerId) {
+        return new OrderCreateRequest(customerId, "서울시 테스트구", "1234-5678-9012-3456", LocalTime.of(18, 0));
+    }
+
+    private static OrderCommand command(Long customerId) {
+        return new OrderCommand(customerId, "서울시 테스트구", "1234-5678-9012-3456", LocalTime.of(18, 0), List.of(
+                new OrderCommand.Item(1L, "발렌타인 디너", 50000, 1L, "심플", 0, 1, List.of())));
+    }
+}
@@ -0,0 +1,119 @@
+package com.dinnervery.service;
+
+import com.dinnervery.entity.OptionRecipe;
+import com.dinnervery.entity.OrderItemOption;
+import com.dinnervery.entity.Storage;
+import com.dinnervery.repository.OptionRecipeRepository;
+import com.dinnervery.repository.StorageRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RecipeBookTest {
+
+    private final OptionRecipeRepository optionRecipeRepository = mock(OptionRecipeRepository.class);
+    private final StorageRepository storageRepository = mock(StorageRepository.class);
+    private RecipeBook recipeBook;
+
+    @BeforeEach
+    void setUp() {
+        when(optionRecipeRepository.findAll(any(Sort.class))).thenReturn(recipes(2));
+        when(storageRepository.findAll(any(Sort.class))).thenReturn(List.of(
+                Storage.builder().name("커피").quantity(100).build()));
+
+        recipeBook = new RecipeBook(optionRecipeRepository, storageRepository);
+        recipeBook.load();
+    }
+
+    @Test
+    void resolvesByOptionIdBeforeName() {
+        assertThat(recipeBook.resolve(10L, "다른 이름"))
+                .containsExactly(new RecipeBook.Ingredient("고기", 1));
+        assertThat(recipeBook.resolve(null, "스테이크"))
+                .containsExactly(new RecipeBook.Ingredient("고기", 1));
+    }
+
+    @Test
+    void fallbackIsBuiltOncePerName() {
+        List<RecipeBook.Ingredient> storageFallback = recipeBook.resolve(null, "커피");
+        assertThat(storageFallback).containsExactly(new RecipeBook.Ingredient("커피", 1));
+        assertThat(recipeBook.resolve(99L, "커피")).isSameAs(storageFallback);
+
+        List<RecipeBook.Ingredient> unknown = recipeBook.resolve(null, "촛불");
+        assertThat(unknown).containsExactly(new RecipeBook.Ingredient("촛불", 1));
+        assertThat(recipeBook.resolve(null, "촛불")).isSameAs(unknown);
+    }
+
+    @Test
+    void unchangedRowsKeepTheLoadedTable() {
+        List<RecipeBook.Ingredient> before = recipeBook.resolve(20L, "샴페인 세트");
+
+        recipeBook.reloadIfChanged();
+
+        assertThat(recipeBook.resolve(20L, "샴페인 세트")).isSameAs(before);
+    }
+
+    @Test
+    void reloadsEditThatKeepsRowCount() {
+        // 행 수도 같고 updated_at도 바뀌지 않은 수정 (DB에서 직접 고친 경우)
+        when(optionRecipeRepository.findAll(any(Sort.class))).thenReturn(recipes(3));
+
+        recipeBook.reloadIfChanged();
+
+        assertThat(recipeBook.resolve(20L, "샴페인 세트"))
+                .containsExactly(new RecipeBook.Ingredient("샴페인", 1), new RecipeBook.Ingredient("와인", 3));
+    }
+
+    @Test
+    void cookedOptionUsesRecipeCopiedWhenAdded() {
+        StorageService storageService = new StorageService(recipeBook, mock(StockLedger.class), new ObjectMapper());
+        OrderItemOption added = option(storageService.getStorageRecipe(20L, "샴페인 세트"), 2);
+
+        when(optionRecipeRepository.findAll(any(Sort.class))).thenReturn(recipes(3));
+        recipeBook.reloadIfChanged();
+
+        IngredientDemand demand = storageService.aggregateDemand(List.of(added));
+        assertThat(demand.size()).isEqualTo(2);
+        assertThat(demand.nameAt(0)).isEqualTo("샴페인");
+        assertThat(demand.unitsAt(0)).isEqualTo(2);
+        assertThat(demand.nameAt(1)).isEqualTo("와인");
+        assertThat(demand.unitsAt(1)).isEqualTo(4);
+    }
+
+    @Test
+    void optionWithoutStoredRecipeUsesCurrentTable() {
+        StorageService storageService = new StorageService(recipeBook, mock(StockLedger.class), new ObjectMapper());
+
+        IngredientDemand demand = storageService.aggregateDemand(List.of(option(null, 1)));
+
+        assertThat(demand.size()).isEqualTo(2);
+        assertThat(demand.nameAt(1)).isEqualTo("와인");
+        assertThat(demand.unitsAt(1)).isEqualTo(2);
+    }
+
+    private static List<OptionRecipe> recipes(int wineUnits) {
+        return List.of(
+                OptionRecipe.builder().optionId(10L).optionName("스테이크").storageName("고기").units(1).build(),
+                OptionRecipe.builder().optionId(20L).optionName("샴페인 세트").storageName("샴페인").units(1).build(),
+                OptionRecipe.builder().optionId(20L).optionName("샴페인 세트").storageName("와인").units(wineUnits).build());
+    }
+
+    private static OrderItemOption option(String storageRecipe, int quantity) {
+        return OrderItemOption.builder()
+                .optionId(20L)
+                .optionName("샴페인 세트")
+                .optionPrice(0)
+                .defaultQty(0)
+                .quantity(quantity)
+                .storageRecipe(storageRecipe)
+                .build();
+    }
+}
@@ -0,0 +1,199 @@
+package com.dinnervery.service;
+
+import com.dinnervery.common.ServiceUnavailableException;
+import com.dinnervery.entity.StockMovement;
+import com.dinnervery.entity.Storage;
+import com.dinnervery.repository.StockMovementRepository;
+import com.dinnervery.repository.StorageRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class StockLedgerTest {
+
+    private final StorageRepository storageRepository = mock(StorageRepository.class);
+    private final StockMovementRepository stockMovementRepository = mock(StockMovementRepository.class);
+    private final StockLedger ledger = new StockLedger(
+            storageRepository, stockMovementRepository, mock(PlatformTransactionManager.class));
+
+    @BeforeEach
+    void setUp() {
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void deductIsRejectedUntilCountersAreLoaded() {
+        assertThatThrownBy(() -> ledger.deduct(1L, demand("고기", 1)))
+                .isInstanceOf(ServiceUnavailableException.class);
+        verify(stockMovementRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void loadAddsPendingDeltasOfCurrentEpoch() {
+        loadWith(3L, storage(1L, "고기", 100));
+        when(stockMovementRepository.sumPendingDeltas(3L)).thenReturn(List.<Object[]>of(new Object[]{"고기", -7L}));
+
+        ledger.load();
+
+        assertThat(ledger.levels()).containsExactly(new StockLedger.StockLevel(1L, "고기", 93));
+    }
+
+    @Test
+    void insufficientStockReleasesEarlierReservations() {
+        loadWith(0L, storage(1L, "고기", 10), storage(2L, "와인", 1));
+        ledger.load();
+
+        IngredientDemand demand = demand("고기", 4);
+        demand.add("와인", 2);
+        assertThatThrownBy(() -> ledger.deduct(1L, demand))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("와인");
+
+        assertThat(ledger.levels()).extracting(StockLedger.StockLevel::getQuantity).containsExactly(10, 1);
+    }
+
+    @Test
+    void storageAddedAfterLoadGetsCounterOnFirstDeduction() {
+        loadWith(2L, storage(1L, "고기", 10));
+        ledger.load();
+        Storage wine = storage(5L, "와인", 20);
+        ReflectionTestUtils.setField(wine, "stockEpoch", 2L);
+        when(storageRepository.findByName("와인")).thenReturn(Optional.of(wine));
+        when(stockMovementRepository.sumPendingDelta("와인", 2L)).thenReturn(-3L);
+
+        ledger.deduct(1L, demand("와인", 4));
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        assertThat(ledger.levels()).containsExactly(
+                new StockLedger.StockLevel(1L, "고기", 10),
+                new StockLedger.StockLevel(5L, "와인", 13));
+    }
+
+    @Test
+    void levelsShowOnlyCommittedDeductions() {
+        loadWith(0L, storage(1L, "고기", 10));
+        ledger.load();
+        long loadedVersion = ledger.version();
+
+        ledger.deduct(1L, demand("고기", 4));
+        assertThat(ledger.levels()).extracting(StockLedger.StockLevel::getQuantity).containsExactly(10);
+        assertThat(ledger.version()).isEqualTo(loadedVersion);
+
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+        assertThat(ledger.levels()).extracting(StockLedger.StockLevel::getQuantity).containsExactly(6);
+        assertThat(ledger.version()).isGreaterThan(loadedVersion);
+    }
+
+    @Test
+    void rolledBackDeductionReturnsReservation() {
+        loadWith(0L, storage(1L, "고기", 10));
+        ledger.load();
+
+        ledger.deduct(1L, demand("고기", 10));
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        ledger.deduct(2L, demand("고기", 10));
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+        assertThat(ledger.levels()).extracting(StockLedger.StockLevel::getQuantity).containsExactly(0);
+    }
+
+    @Test
+    void unknownIngredientIsSkippedAndLookedUpOnce() {
+        loadWith(0L, storage(1L, "고기", 10));
+        ledger.load();
+        when(storageRepository.findByName("촛불")).thenReturn(Optional.empty());
+
+        ledger.deduct(1L, demand("촛불", 1));
+        ledger.deduct(2L, demand("촛불", 1));
+
+        verify(storageRepository).findByName("촛불");
+    }
+
+    @Test
+    void flushSkipsMovementsFromBeforeReset() {
+        when(storageRepository.findCurrentStockEpoch()).thenReturn(2L);
+        StockMovement stale = movement(11L, "고기", -5, 1L);
+        StockMovement current = movement(12L, "고기", -3, 2L);
+        when(stockMovementRepository.findTop500ByAppliedFalseOrderByIdAsc()).thenReturn(List.of(stale, current));
+
+        ledger.flush();
+
+        verify(storageRepository).adjustQuantity("고기", -3);
+        verify(storageRepository, never()).adjustQuantity(anyString(), eq(-8));
+        verify(stockMovementRepository).markApplied(List.of(11L, 12L));
+    }
+
+    @Test
+    void resetStartsNewEpochForLaterDeductions() {
+        loadWith(4L, storage(1L, "고기", 10));
+        ledger.load();
+
+        ledger.resetAll(100);
+        ledger.deduct(1L, demand("고기", 1));
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        verify(stockMovementRepository).discardPending();
+        verify(stockMovementRepository).saveAll(argThat((List<StockMovement> movements) ->
+                movements.size() == 1 && movements.get(0).getEpoch() == 5L));
+        assertThat(ledger.levels()).extracting(StockLedger.StockLevel::getQuantity).containsExactly(99);
+    }
+
+    /**
+     * 등록된 트랜잭션 동기화에 완료를 알리고 비움 (트랜잭션 한 건이 끝난 것처럼)
+     */
+    private static void complete(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        TransactionSynchronizationManager.initSynchronization();
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+
+    private void loadWith(long epoch, Storage... storages) {
+        when(storageRepository.findCurrentStockEpoch()).thenReturn(epoch);
+        when(storageRepository.findAll(any(Sort.class))).thenReturn(List.of(storages));
+        when(storageRepository.adjustQuantity(anyString(), anyInt())).thenReturn(1);
+    }
+
+    private static Storage storage(Long id, String name, int quantity) {
+        Storage storage = Storage.builder().name(name).quantity(quantity).build();
+        ReflectionTestUtils.setField(storage, "id", id);
+        return storage;
+    }
+
+    private static StockMovement movement(Long id, String name, int delta, long epoch) {
+        StockMovement movement = StockMovement.builder().storageName(name).delta(delta).epoch(epoch).build();
+        ReflectionTestUtils.setField(movement, "id", id);
+        return movement;
+    }
+
+    private static IngredientDemand demand(String name, int units) {
+        IngredientDemand demand = new IngredientDemand();
+        demand.add(name, units);
+        return demand;
+    }
+}
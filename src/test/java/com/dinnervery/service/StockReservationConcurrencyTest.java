@@ -0,0 +1,124 @@
+package com.dinnervery.service;
+
+import com.dinnervery.dto.order.response.OrderResponse;
+import com.dinnervery.entity.Customer;
+import com.dinnervery.entity.Order;
+import com.dinnervery.repository.CustomerRepository;
+import com.dinnervery.repository.OrderRepository;
+import com.dinnervery.repository.StorageRepository;
+import com.dinnervery.support.Fixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 조리 완료(COOKED) 전환 64건을 동시에 실행해도 재고가 초과 차감되지 않는지 확인
+ * 주문마다 고기 2개(스테이크 + 베이컨)를 쓰고 고기 재고는 100개이므로 정확히 50건만 성공해야 함
+ * 차감 확인은 StockLedger의 메모리 카운터(StripedCounter)가 맡고 storages에는 원장 플러시로 반영됨
+ * (조건부 UPDATE로 확인/차감하던 방식을 대체)
+ */
+@SpringBootTest
+@ActiveProfiles({"dev", "test"})
+class StockReservationConcurrencyTest {
+
+    private static final int COOKS = 64;
+    private static final int MEAT_STOCK = 100;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private StorageRepository storageRepository;
+
+    @Autowired
+    private CartService cartService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private StockLedger stockLedger;
+
+    @Test
+    void parallelCooksNeverOversellStock() throws Exception {
+        stockLedger.resetAll(MEAT_STOCK);
+
+        List<Long> orderIds = new ArrayList<>();
+        for (int i = 0; i < COOKS; i++) {
+            Customer customer = customerRepository.save(Fixtures.customer());
+            cartService.addItemToCart(customer.getId(), Fixtures.cartItem(1, "스테이크", "베이컨"));
+            OrderResponse order = orderService.createOrder(Fixtures.orderRequest(customer.getId()));
+            orderService.updateOrderStatus(order.getOrderId(), Map.of("status", "COOKING"));
+            orderIds.add(order.getOrderId());
+        }
+
+        AtomicInteger cooked = new AtomicInteger();
+        AtomicInteger outOfStock = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(COOKS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (Long orderId : orderIds) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        orderService.updateOrderStatus(orderId, Map.of("status", "COOKED"));
+                        cooked.incrementAndGet();
+                    } catch (IllegalStateException e) {
+                        assertThat(e).hasMessageContaining("고기 재고가 부족합니다");
+                        outOfStock.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(cooked.get()).isEqualTo(MEAT_STOCK / 2);
+        assertThat(outOfStock.get()).isEqualTo(COOKS - MEAT_STOCK / 2);
+        assertThat(orderRepository.findAllById(orderIds))
+                .filteredOn(order -> order.getDeliveryStatus() == Order.Status.COOKED)
+                .hasSize(MEAT_STOCK / 2);
+        assertThat(meatLevel()).isZero();
+
+        // 원장이 storages 잔량에 반영될 때까지 대기 (백그라운드 플러시)
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (storedMeat() != 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(100);
+        }
+        assertThat(storedMeat()).isZero();
+    }
+
+    private int meatLevel() {
+        return stockLedger.levels().stream()
+                .filter(level -> level.getName().equals("고기"))
+                .findFirst()
+                .orElseThrow()
+                .getQuantity();
+    }
+
+    private int storedMeat() {
+        return storageRepository.findByName("고기").orElseThrow().getQuantity();
+    }
+}
@@ -0,0 +1,39 @@
+package com.dinnervery.service;
+
+import com.dinnervery.dto.storage.response.StockSnapshot;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class StorageServiceTest {
+
+    private final StockLedger stockLedger = mock(StockLedger.class);
+    private final StorageService storageService =
+            new StorageService(mock(RecipeBook.class), stockLedger, new ObjectMapper());
+
+    @Test
+    void snapshotIsReusedUntilCommittedStockChanges() {
+        when(stockLedger.version()).thenReturn(1L);
+        when(stockLedger.levels()).thenReturn(List.of(new StockLedger.StockLevel(1L, "고기", 10)));
+
+        StockSnapshot first = storageService.getStockSnapshot();
+        assertThat(storageService.getStockSnapshot()).isSameAs(first);
+        verify(stockLedger, times(1)).levels();
+
+        when(stockLedger.version()).thenReturn(2L);
+        when(stockLedger.levels()).thenReturn(List.of(new StockLedger.StockLevel(1L, "고기", 8)));
+
+        StockSnapshot second = storageService.getStockSnapshot();
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getEtag()).isNotEqualTo(first.getEtag());
+        assertThat(new String(second.getBody(), StandardCharsets.UTF_8)).contains("\"quantity\":8");
+    }
+}
@@ -0,0 +1,117 @@
+package com.dinnervery.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StripedCounterTest {
+
+    @Test
+    void takeSpansStripesWhenOneStripeIsNotEnough() {
+        StripedCounter counter = new StripedCounter(10, 8);
+
+        assertThat(counter.tryTake(10)).isTrue();
+        assertThat(counter.sum()).isZero();
+        assertThat(counter.tryTake(1)).isFalse();
+    }
+
+    @Test
+    void failedTakeLeavesTotalUnchanged() {
+        StripedCounter counter = new StripedCounter(5, 4);
+
+        assertThat(counter.tryTake(6)).isFalse();
+        assertThat(counter.sum()).isEqualTo(5);
+
+        counter.add(3);
+        assertThat(counter.tryTake(8)).isTrue();
+        assertThat(counter.sum()).isZero();
+    }
+
+    @Test
+    void concurrentTakesNeverExceedTotal() throws Exception {
+        StripedCounter counter = new StripedCounter(1000, 8);
+        AtomicInteger taken = new AtomicInteger();
+
+        runConcurrently(64, () -> {
+            for (int i = 0; i < 50; i++) {
+                if (counter.tryTake(1)) {
+                    taken.incrementAndGet();
+                }
+            }
+        });
+
+        assertThat(taken.get()).isEqualTo(1000);
+        assertThat(counter.sum()).isZero();
+    }
+
+    @Test
+    void concurrentMultiUnitTakesDrainUntilLessThanOneTakeRemains() throws Exception {
+        int units = 3;
+        StripedCounter counter = new StripedCounter(1000, 8);
+        AtomicInteger taken = new AtomicInteger();
+
+        runConcurrently(64, () -> {
+            for (int i = 0; i < 20; i++) {
+                if (counter.tryTake(units)) {
+                    taken.addAndGet(units);
+                }
+            }
+        });
+
+        // 1000 = 3 * 333 + 1: 남은 1개로는 더 가져갈 수 없을 때까지 빠짐없이 가져감
+        assertThat(taken.get()).isEqualTo(999);
+        assertThat(counter.sum()).isEqualTo(1);
+    }
+
+    @Test
+    void takeNeverFailsWhileEnoughRemainsDespiteConcurrentTakeAndRelease() throws Exception {
+        int threads = 16;
+        int units = 5;
+        // 스레드마다 많아야 units만큼만 쥐고 있으므로 모든 차감이 성공해야 함
+        StripedCounter counter = new StripedCounter(threads * units, 8);
+        AtomicInteger failures = new AtomicInteger();
+
+        runConcurrently(threads, () -> {
+            for (int i = 0; i < 2_000; i++) {
+                if (counter.tryTake(units)) {
+                    counter.add(units);
+                } else {
+                    failures.incrementAndGet();
+                }
+            }
+        });
+
+        assertThat(failures.get()).isZero();
+        assertThat(counter.sum()).isEqualTo(threads * units);
+    }
+
+    private static void runConcurrently(int threads, Runnable task) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    task.run();
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.dinnervery.support;
+
+import lombok.Value;
+
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 1건 저장과 여러 건 저장의 문장 수를 비교해 테이블별 INSERT가 JDBC 배치로 묶이는지 확인
+ */
+public final class BatchInsertAssert {
+
+    private BatchInsertAssert() {
+    }
+
+    /**
+     * @param tables INSERT가 일어나는 테이블 수 (테이블마다 배치 INSERT 1문장)
+     * @return 여러 건 저장의 결과와 문장 수
+     */
+    public static <T> Outcome<T> assertInsertsBatched(int tables, Runnable single, Supplier<T> many) {
+        StatementCounter.Result one = StatementCounter.count(single);
+        Object[] value = new Object[1];
+        StatementCounter.Result batch = StatementCounter.count(() -> value[0] = many.get());
+
+        assertThat(one.getInserts()).as("1건 저장의 INSERT 문장 수").isEqualTo(tables);
+        assertThat(batch.getInserts()).as("여러 건 저장의 INSERT 문장 수").isEqualTo(tables);
+        // 나머지는 시퀀스 조회 등으로 같음 (allocationSize 50 단위라 시퀀스 조회가 많아야 1번 더)
+        assertThat(batch.getStatements()).isLessThanOrEqualTo(one.getStatements() + 1);
+
+        @SuppressWarnings("unchecked")
+        T result = (T) value[0];
+        return new Outcome<>(result, batch);
+    }
+
+    @Value
+    public static class Outcome<T> {
+        T value;
+        StatementCounter.Result statements;
+    }
+}
@@ -0,0 +1,68 @@
+package com.dinnervery.support;
+
+import com.dinnervery.dto.cart.request.CartAddItemRequest;
+import com.dinnervery.dto.order.request.OrderCreateRequest;
+import com.dinnervery.entity.Customer;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 통합 테스트용 요청/엔티티 생성 도우미
+ */
+public final class Fixtures {
+
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+
+    private Fixtures() {
+    }
+
+    public static Customer customer() {
+        long n = SEQUENCE.incrementAndGet();
+        return Customer.builder()
+                .loginId("customer" + n + "_" + System.nanoTime())
+                .password("password")
+                .name("고객" + n)
+                .phoneNumber("010-0000-" + String.format("%04d", n % 10000))
+                .address("서울시 테스트구 " + n)
+                .build();
+    }
+
+    /**
+     * 발렌타인 디너(심플) + 옵션 (옵션 이름은 DataLoader의 레시피 이름)
+     */
+    public static CartAddItemRequest cartItem(int quantity, String... optionNames) {
+        List<CartAddItemRequest.OptionRequest> options = new ArrayList<>();
+        long optionId = 1;
+        for (String optionName : optionNames) {
+            options.add(CartAddItemRequest.OptionRequest.builder()
+                    .optionId(optionId++)
+                    .optionName(optionName)
+                    .optionPrice(5000)
+                    .defaultQty(1)
+                    .quantity(1)
+                    .build());
+        }
+        return CartAddItemRequest.builder()
+                .menuId(1L)
+                .menuName("발렌타인 디너")
+                .menuPrice(50000)
+                .menuQuantity(quantity)
+                .styleId(1L)
+                .styleName("심플")
+                .styleExtraPrice(0)
+                .options(options)
+                .build();
+    }
+
+    public static OrderCreateRequest orderRequest(Long customerId) {
+        return OrderCreateRequest.builder()
+                .customerId(customerId)
+                .address("서울시 테스트구")
+                .cardNumber("1234-5678-9012-3456")
+                .deliveryTime(LocalTime.of(18, 0))
+                .build();
+    }
+}
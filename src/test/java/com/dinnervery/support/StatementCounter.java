@@ -0,0 +1,72 @@
+package com.dinnervery.support;
+
+import lombok.Value;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.Locale;
+
+/**
+ * 작업 하나가 호출 스레드에서 준비(prepare)한 JDBC 문장 수를 종류별로 셈
+ * JDBC 배치로 묶인 INSERT는 문장 하나로 준비되므로 배치 여부를 확인할 수 있음
+ * 스레드별로 세므로 원장 플러시 같은 백그라운드 작업의 문장은 섞이지 않음
+ * (application-test.yml의 hibernate.session_factory.statement_inspector로 등록)
+ */
+public final class StatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<long[]> COUNTS = new ThreadLocal<>();
+
+    private static final int SELECT = 0;
+    private static final int INSERT = 1;
+    private static final int UPDATE = 2;
+    private static final int DELETE = 3;
+    private static final int OTHER = 4;
+
+    public static Result count(Runnable work) {
+        long[] counts = new long[5];
+        COUNTS.set(counts);
+        try {
+            work.run();
+        } finally {
+            COUNTS.remove();
+        }
+        return new Result(
+                counts[SELECT] + counts[INSERT] + counts[UPDATE] + counts[DELETE] + counts[OTHER],
+                counts[SELECT], counts[INSERT], counts[UPDATE], counts[DELETE]);
+    }
+
+    @Override
+    public String inspect(String sql) {
+        long[] counts = COUNTS.get();
+        if (counts != null) {
+            counts[kind(sql)]++;
+        }
+        return sql;
+    }
+
+    private static int kind(String sql) {
+        String statement = sql.stripLeading().toLowerCase(Locale.ROOT);
+        if (statement.startsWith("select")) {
+            return SELECT;
+        }
+        if (statement.startsWith("insert")) {
+            return INSERT;
+        }
+        if (statement.startsWith("update")) {
+            return UPDATE;
+        }
+        if (statement.startsWith("delete")) {
+            return DELETE;
+        }
+        return OTHER;
+    }
+
+    @Value
+    public static class Result {
+        long statements;
+        /** 시퀀스 조회 포함 */
+        long selects;
+        long inserts;
+        long updates;
+        long deletes;
+    }
+}